@@ -1,8 +1,15 @@
 package com.taskmanager.config;
 
 import com.taskmanager.repository.UserRepository;
+import com.taskmanager.security.BoundedPasswordEncoder;
+import com.taskmanager.security.CalibratedPasswordEncoder;
 import com.taskmanager.security.JwtAuthenticationFilter;
+import com.taskmanager.security.PasswordUpgradeService;
+import com.taskmanager.security.PrincipalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,11 +22,12 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -27,6 +35,30 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final PasswordUpgradeService passwordUpgradeService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.password-hashing.strength:0}")
+    private int passwordHashingStrength;
+
+    @Value("${security.password-hashing.min-strength:10}")
+    private int passwordHashingMinStrength;
+
+    @Value("${security.password-hashing.max-strength:14}")
+    private int passwordHashingMaxStrength;
+
+    @Value("${security.password-hashing.target-latency:50ms}")
+    private Duration passwordHashingTargetLatency;
+
+    @Value("${security.password-hashing.threads:4}")
+    private int passwordHashingThreads;
+
+    @Value("${security.password-hashing.queue-capacity:64}")
+    private int passwordHashingQueueCapacity;
+
+    @Value("${security.password-hashing.retry-after:5s}")
+    private Duration passwordHashingRetryAfter;
 
     private static final String[] PUBLIC_ENDPOINTS = {
             "/auth/**",
@@ -38,7 +70,7 @@ public class SecurityConfig {
 
     @Bean
     public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByEmail(username)
+        return username -> principalCache.get(username, userRepository::findByEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
     }
 
@@ -48,6 +80,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
+                        // a requisição original de um streaming já foi autorizada
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session
@@ -64,6 +98,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService());
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(passwordUpgradeService);
         return authProvider;
     }
 
@@ -74,6 +109,17 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        CalibratedPasswordEncoder encoder = passwordHashingStrength > 0
+                ? new CalibratedPasswordEncoder(passwordHashingStrength)
+                : CalibratedPasswordEncoder.calibrate(
+                        passwordHashingTargetLatency, passwordHashingMinStrength, passwordHashingMaxStrength);
+
+        return new BoundedPasswordEncoder(
+                encoder,
+                passwordHashingThreads,
+                passwordHashingQueueCapacity,
+                passwordHashingRetryAfter,
+                meterRegistry
+        );
     }
 }
@@ -1,10 +1,12 @@
 package com.taskmanager.controller;
 
+import com.taskmanager.dto.request.ProjectPatchRequest;
 import com.taskmanager.dto.request.ProjectRequest;
 import com.taskmanager.dto.response.ErrorResponse;
 import com.taskmanager.dto.response.ProjectResponse;
 import com.taskmanager.entity.User;
 import com.taskmanager.service.ProjectService;
+import com.taskmanager.service.Versioned;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,12 +17,15 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/projects")
@@ -49,22 +54,33 @@ public class ProjectController {
     }
 
     @GetMapping
-    @Operation(summary = "Listar projetos", description = "Lista todos os projetos do usuário autenticado")
+    @Operation(summary = "Listar projetos",
+            description = "Lista todos os projetos do usuário autenticado. Responde com ETag; "
+                    + "If-None-Match com a mesma ETag retorna 304 sem montar a lista")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de projetos retornada com sucesso",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProjectResponse.class)))),
+            @ApiResponse(responseCode = "304", description = "Não modificado desde a ETag informada em If-None-Match"),
             @ApiResponse(responseCode = "401", description = "Não autenticado",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<ProjectResponse>> findAll(@AuthenticationPrincipal User currentUser) {
+    public ResponseEntity<List<ProjectResponse>> findAll(
+            @AuthenticationPrincipal User currentUser,
+            WebRequest webRequest) {
+        Optional<String> etag = projectService.findAllETag(currentUser);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return null;
+        }
         return ResponseEntity.ok(projectService.findAllByOwner(currentUser));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Buscar projeto por ID", description = "Retorna dados do projeto pelo ID")
+    @Operation(summary = "Buscar projeto por ID",
+            description = "Retorna dados do projeto pelo ID, com ETag; If-None-Match com a mesma ETag retorna 304")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Projeto encontrado",
                     content = @Content(schema = @Schema(implementation = ProjectResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Não modificado desde a ETag informada em If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Projeto não encontrado",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "Sem permissão para acessar o projeto",
@@ -74,15 +90,25 @@ public class ProjectController {
     })
     public ResponseEntity<ProjectResponse> findById(
             @PathVariable Long id,
-            @AuthenticationPrincipal User currentUser) {
+            @AuthenticationPrincipal User currentUser,
+            WebRequest webRequest) {
+        Optional<String> etag = projectService.findETag(id, currentUser);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return null;
+        }
         return ResponseEntity.ok(projectService.findByIdResponse(id, currentUser));
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Atualizar projeto", description = "Atualiza dados do projeto")
+    @Operation(summary = "Atualizar projeto",
+            description = "Atualiza dados do projeto. Com If-Match, só atualiza se a ETag ainda for a atual")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Projeto atualizado com sucesso",
                     content = @Content(schema = @Schema(implementation = ProjectResponse.class))),
+            @ApiResponse(responseCode = "412", description = "ETag de If-Match diferente da versão atual",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Alteração concorrente em requisição sem If-Match",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Projeto não encontrado",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "Sem permissão para atualizar o projeto",
@@ -95,14 +121,47 @@ public class ProjectController {
     public ResponseEntity<ProjectResponse> update(
             @PathVariable Long id,
             @Valid @RequestBody ProjectRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal User currentUser) {
+        Versioned<ProjectResponse> project = projectService.update(id, request, ifMatch, currentUser);
+        return ResponseEntity.ok().eTag(project.eTag()).body(project.body());
+    }
+
+    @PatchMapping(value = "/{id}", consumes = "application/merge-patch+json")
+    @Operation(summary = "Alterar projeto parcialmente",
+            description = "Aplica um JSON Merge Patch: campos ausentes ficam como estão e null remove o valor. "
+                    + "Só as colunas alteradas são gravadas. Com If-Match, só altera se a ETag ainda for a atual")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Projeto alterado com sucesso",
+                    content = @Content(schema = @Schema(implementation = ProjectResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Projeto não encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Sem permissão para atualizar o projeto",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "412", description = "ETag de If-Match diferente da versão atual",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Alteração concorrente em requisição sem If-Match",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<ProjectResponse> patch(
+            @PathVariable Long id,
+            @RequestBody ProjectPatchRequest patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal User currentUser) {
-        return ResponseEntity.ok(projectService.update(id, request, currentUser));
+        Versioned<ProjectResponse> project = projectService.patch(id, patch, ifMatch, currentUser);
+        return ResponseEntity.ok().eTag(project.eTag()).body(project.body());
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Excluir projeto", description = "Remove projeto e suas tarefas")
+    @Operation(summary = "Excluir projeto",
+            description = "Marca o projeto como excluído; ele e suas tarefas deixam de aparecer imediatamente "
+                    + "e são removidos definitivamente em segundo plano")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "204", description = "Projeto excluído com sucesso"),
+            @ApiResponse(responseCode = "202", description = "Exclusão do projeto aceita"),
             @ApiResponse(responseCode = "404", description = "Projeto não encontrado",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "Sem permissão para excluir o projeto",
@@ -114,6 +173,6 @@ public class ProjectController {
             @PathVariable Long id,
             @AuthenticationPrincipal User currentUser) {
         projectService.delete(id, currentUser);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.accepted().build();
     }
 }
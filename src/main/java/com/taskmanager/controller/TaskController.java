@@ -1,13 +1,30 @@
 package com.taskmanager.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.dto.request.AssignedTaskFilterRequest;
+import com.taskmanager.dto.request.TaskBulkReassignRequest;
+import com.taskmanager.dto.request.TaskBulkStatusRequest;
+import com.taskmanager.dto.request.TaskFilterRequest;
+import com.taskmanager.dto.request.TaskPatchRequest;
 import com.taskmanager.dto.request.TaskRequest;
 import com.taskmanager.dto.request.TaskStatusRequest;
+import com.taskmanager.dto.response.BulkUpdateResponse;
+import com.taskmanager.dto.response.CursorPageResponse;
 import com.taskmanager.dto.response.ErrorResponse;
+import com.taskmanager.dto.response.TaskBatchResponse;
+import com.taskmanager.dto.response.TaskChangesResponse;
+import com.taskmanager.dto.response.TaskImportResponse;
 import com.taskmanager.dto.response.TaskResponse;
+import com.taskmanager.dto.response.TaskSearchResponse;
 import com.taskmanager.entity.User;
+import com.taskmanager.service.TaskExportFormat;
+import com.taskmanager.service.TaskExportWriter;
+import com.taskmanager.service.TaskImportService;
 import com.taskmanager.service.TaskService;
+import com.taskmanager.service.TaskSyncService;
+import com.taskmanager.service.Versioned;
 import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,12 +33,24 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -30,6 +59,9 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final TaskSyncService taskSyncService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/projects/{projectId}/tasks")
     @Operation(summary = "Criar tarefa", description = "Cria uma nova tarefa vinculada ao projeto")
@@ -53,11 +85,44 @@ public class TaskController {
                 .body(taskService.create(projectId, request, currentUser));
     }
 
+    @PostMapping("/projects/{projectId}/tasks:batch")
+    @Operation(summary = "Criar tarefas em lote",
+            description = "Cria até " + TaskService.MAX_BATCH_SIZE + " tarefas no projeto em uma única requisição. "
+                    + "Cada item é validado individualmente e o resultado informa sucesso ou erro por posição")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Todas as tarefas foram criadas",
+                    content = @Content(schema = @Schema(implementation = TaskBatchResponse.class))),
+            @ApiResponse(responseCode = "207", description = "Parte dos itens foi rejeitada; veja o status de cada item",
+                    content = @Content(schema = @Schema(implementation = TaskBatchResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Projeto não encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Sem permissão para criar tarefas neste projeto",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do limite",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<TaskBatchResponse> createBatch(
+            @PathVariable Long projectId,
+            @RequestBody List<TaskRequest> requests,
+            @AuthenticationPrincipal User currentUser) {
+        TaskBatchResponse response = taskService.createBatch(projectId, requests, currentUser);
+        HttpStatus status = response.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
     @GetMapping("/projects/{projectId}/tasks")
-    @Operation(summary = "Listar tarefas do projeto", description = "Lista todas as tarefas de um projeto")
+    @Operation(summary = "Listar tarefas do projeto",
+            description = "Lista as tarefas de um projeto em páginas, com filtros opcionais por status, "
+                    + "responsável e intervalo de prazo. Use o cursor retornado em nextCursor (ou o link next) "
+                    + "para buscar a próxima página mantendo os mesmos filtros e ordenação. Responde com ETag; "
+                    + "If-None-Match com a mesma ETag retorna 304 sem consultar as tarefas")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso",
-                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class)))),
+            @ApiResponse(responseCode = "200", description = "Página de tarefas retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Não modificado desde a ETag informada em If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Filtro, ordenação ou cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Projeto não encontrado",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "Sem permissão para acessar o projeto",
@@ -65,17 +130,167 @@ public class TaskController {
             @ApiResponse(responseCode = "401", description = "Não autenticado",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<TaskResponse>> findAllByProject(
+    public ResponseEntity<CursorPageResponse<TaskResponse>> findAllByProject(
+            @PathVariable Long projectId,
+            @ParameterObject TaskFilterRequest filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @AuthenticationPrincipal User currentUser,
+            WebRequest webRequest) {
+        Optional<String> etag = taskService.findETagByProject(projectId, currentUser);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return null;
+        }
+        return ResponseEntity.ok(withNextLink(
+                taskService.findAllByProject(projectId, filter, cursor, limit, currentUser)));
+    }
+
+    @GetMapping("/projects/{projectId}/changes")
+    @Operation(summary = "Sincronizar alterações do projeto",
+            description = "Retorna as tarefas criadas ou alteradas e os IDs das excluídas desde o token since, "
+                    + "com o token para a próxima chamada. Sem since retorna todas as tarefas (sincronização "
+                    + "inicial). Com hasMore=true repita a chamada com nextToken imediatamente")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Alterações retornadas com sucesso",
+                    content = @Content(schema = @Schema(implementation = TaskChangesResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Token inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "410", description = "Token expirado; refaça a sincronização completa",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Projeto não encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Sem permissão",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<TaskChangesResponse> findChanges(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit,
+            @AuthenticationPrincipal User currentUser) {
+        return ResponseEntity.ok(taskSyncService.findChanges(projectId, since, limit, currentUser));
+    }
+
+    @PostMapping(value = "/projects/{projectId}/tasks/import", consumes = "text/csv")
+    @Operation(summary = "Importar tarefas por CSV",
+            description = "Importa tarefas de um CSV com cabeçalho (title obrigatório; description, status, "
+                    + "deadline e assignedUserId opcionais), lido em streaming. Linhas inválidas são "
+                    + "rejeitadas e listadas no relatório; as demais são gravadas em blocos, cada um em sua "
+                    + "transação. Se uma falha interromper a importação depois de algum bloco gravado, o "
+                    + "relatório traz completed=false e a linha a partir da qual reenviar o arquivo")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação concluída ou interrompida após blocos gravados",
+                    content = @Content(schema = @Schema(implementation = TaskImportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "CSV malformado ou sem cabeçalho",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Projeto não encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Sem permissão",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<TaskImportResponse> importCsv(
             @PathVariable Long projectId,
+            InputStream body,
+            @AuthenticationPrincipal User currentUser) {
+        return ResponseEntity.ok(taskImportService.importCsv(projectId, body, currentUser));
+    }
+
+    @GetMapping("/projects/{projectId}/tasks/export")
+    @Operation(summary = "Exportar tarefas do projeto",
+            description = "Envia todas as tarefas do projeto em NDJSON ou CSV, em streaming e em ordem de ID; "
+                    + "com Accept-Encoding: gzip a resposta é comprimida durante o envio")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação enviada em streaming"),
+            @ApiResponse(responseCode = "400", description = "Formato inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Projeto não encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Sem permissão",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable Long projectId,
+            @Parameter(description = "ndjson ou csv") @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @AuthenticationPrincipal User currentUser) {
+        TaskExportFormat exportFormat = taskService.prepareExport(projectId, format, currentUser);
+        boolean compress = acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = outputStream -> {
+            TaskExportWriter writer = TaskExportWriter.open(exportFormat, outputStream, compress, objectMapper);
+            taskService.exportByProject(projectId, task -> {
+                try {
+                    writer.write(task);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.finish();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("project-" + projectId + "-tasks." + exportFormat.getParam())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (compress) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/tasks/search")
+    @Operation(summary = "Buscar tarefas",
+            description = "Busca textual no título e na descrição das tarefas dos projetos do usuário, "
+                    + "ordenada por relevância e com trechos destacados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultados retornados com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Termo de busca ausente ou longo demais",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<TaskSearchResponse>> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal User currentUser) {
+        return ResponseEntity.ok(taskService.search(query, limit, currentUser));
+    }
+
+    @GetMapping("/users/me/tasks")
+    @Operation(summary = "Listar minhas tarefas",
+            description = "Lista as tarefas atribuídas ao usuário autenticado em todos os projetos, "
+                    + "por padrão ordenadas pelo prazo mais próximo, com paginação por cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de tarefas retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Filtro, ordenação ou cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CursorPageResponse<TaskResponse>> findAllAssignedToMe(
+            @ParameterObject AssignedTaskFilterRequest filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
             @AuthenticationPrincipal User currentUser) {
-        return ResponseEntity.ok(taskService.findAllByProject(projectId, currentUser));
+        return ResponseEntity.ok(withNextLink(
+                taskService.findAllAssignedTo(currentUser, filter, cursor, limit)));
     }
 
     @GetMapping("/tasks/{id}")
-    @Operation(summary = "Buscar tarefa por ID", description = "Retorna dados da tarefa pelo ID")
+    @Operation(summary = "Buscar tarefa por ID",
+            description = "Retorna dados da tarefa pelo ID, com ETag; If-None-Match com a mesma ETag retorna 304")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tarefa encontrada",
                     content = @Content(schema = @Schema(implementation = TaskResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Não modificado desde a ETag informada em If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Tarefa não encontrada",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "Sem permissão para acessar a tarefa",
@@ -86,14 +301,20 @@ public class TaskController {
     public ResponseEntity<TaskResponse> findById(
             @PathVariable Long id,
             @AuthenticationPrincipal User currentUser) {
-        return ResponseEntity.ok(taskService.findByIdResponse(id, currentUser));
+        Versioned<TaskResponse> task = taskService.findByIdResponse(id, currentUser);
+        return ResponseEntity.ok().eTag(task.eTag()).body(task.body());
     }
 
     @PutMapping("/tasks/{id}")
-    @Operation(summary = "Atualizar tarefa", description = "Atualiza dados da tarefa")
+    @Operation(summary = "Atualizar tarefa",
+            description = "Atualiza dados da tarefa. Com If-Match, só atualiza se a ETag ainda for a atual")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tarefa atualizada com sucesso",
                     content = @Content(schema = @Schema(implementation = TaskResponse.class))),
+            @ApiResponse(responseCode = "412", description = "ETag de If-Match diferente da versão atual",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Alteração concorrente em requisição sem If-Match",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Tarefa não encontrada",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "Sem permissão para atualizar a tarefa",
@@ -106,15 +327,52 @@ public class TaskController {
     public ResponseEntity<TaskResponse> update(
             @PathVariable Long id,
             @Valid @RequestBody TaskRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal User currentUser) {
+        Versioned<TaskResponse> task = taskService.update(id, request, ifMatch, currentUser);
+        return ResponseEntity.ok().eTag(task.eTag()).body(task.body());
+    }
+
+    @PatchMapping(value = "/tasks/{id}", consumes = "application/merge-patch+json")
+    @Operation(summary = "Alterar tarefa parcialmente",
+            description = "Aplica um JSON Merge Patch: campos ausentes ficam como estão e null remove o valor. "
+                    + "Só as colunas alteradas são gravadas. Com If-Match, só altera se a ETag ainda for a atual")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tarefa alterada com sucesso",
+                    content = @Content(schema = @Schema(implementation = TaskResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Tarefa ou usuário atribuído não encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Sem permissão para atualizar a tarefa",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "412", description = "ETag de If-Match diferente da versão atual",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Alteração concorrente em requisição sem If-Match",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<TaskResponse> patch(
+            @PathVariable Long id,
+            @RequestBody TaskPatchRequest patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal User currentUser) {
-        return ResponseEntity.ok(taskService.update(id, request, currentUser));
+        Versioned<TaskResponse> task = taskService.patch(id, patch, ifMatch, currentUser);
+        return ResponseEntity.ok().eTag(task.eTag()).body(task.body());
     }
 
     @PatchMapping("/tasks/{id}/status")
-    @Operation(summary = "Atualizar status da tarefa", description = "Altera o status da tarefa (TODO, DOING, DONE)")
+    @Operation(summary = "Atualizar status da tarefa",
+            description = "Altera o status da tarefa (TODO, DOING, DONE). Com If-Match, só altera se a ETag "
+                    + "ainda for a atual")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Status atualizado com sucesso",
                     content = @Content(schema = @Schema(implementation = TaskResponse.class))),
+            @ApiResponse(responseCode = "412", description = "ETag de If-Match diferente da versão atual",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Alteração concorrente em requisição sem If-Match",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Tarefa não encontrada",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "Sem permissão para atualizar a tarefa",
@@ -127,8 +385,48 @@ public class TaskController {
     public ResponseEntity<TaskResponse> updateStatus(
             @PathVariable Long id,
             @Valid @RequestBody TaskStatusRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal User currentUser) {
+        Versioned<TaskResponse> task = taskService.updateStatus(id, request, ifMatch, currentUser);
+        return ResponseEntity.ok().eTag(task.eTag()).body(task.body());
+    }
+
+    @PostMapping("/tasks:bulk-status")
+    @Operation(summary = "Alterar status em massa",
+            description = "Altera o status de todas as tarefas dos seus projetos que atendem ao filtro, "
+                    + "em um único comando, e retorna a quantidade alterada")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tarefas atualizadas",
+                    content = @Content(schema = @Schema(implementation = BulkUpdateResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Filtro ou status inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<BulkUpdateResponse> bulkUpdateStatus(
+            @Valid @RequestBody TaskBulkStatusRequest request,
             @AuthenticationPrincipal User currentUser) {
-        return ResponseEntity.ok(taskService.updateStatus(id, request, currentUser));
+        return ResponseEntity.ok(taskService.bulkUpdateStatus(request, currentUser));
+    }
+
+    @PostMapping("/tasks:bulk-reassign")
+    @Operation(summary = "Reatribuir tarefas em massa",
+            description = "Troca o responsável de todas as tarefas dos seus projetos que atendem ao filtro, "
+                    + "em um único comando, e retorna a quantidade alterada")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tarefas reatribuídas",
+                    content = @Content(schema = @Schema(implementation = BulkUpdateResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Novo responsável não encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Filtro inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<BulkUpdateResponse> bulkReassign(
+            @Valid @RequestBody TaskBulkReassignRequest request,
+            @AuthenticationPrincipal User currentUser) {
+        return ResponseEntity.ok(taskService.bulkReassign(request, currentUser));
     }
 
     @DeleteMapping("/tasks/{id}")
@@ -148,4 +446,26 @@ public class TaskController {
         taskService.delete(id, currentUser);
         return ResponseEntity.noContent().build();
     }
+
+    private CursorPageResponse<TaskResponse> withNextLink(CursorPageResponse<TaskResponse> page) {
+        if (page.getNextCursor() != null) {
+            page.setNext(ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.getNextCursor())
+                    .toUriString());
+        }
+        return page;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().toLowerCase(Locale.ROOT).split(";");
+            if (parts[0].trim().equals("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
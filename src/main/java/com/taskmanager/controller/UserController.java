@@ -1,8 +1,12 @@
 package com.taskmanager.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.taskmanager.dto.request.UserUpdateRequest;
+import com.taskmanager.dto.response.CursorPageResponse;
 import com.taskmanager.dto.response.ErrorResponse;
 import com.taskmanager.dto.response.UserResponse;
+import com.taskmanager.dto.response.UserSuggestionResponse;
 import com.taskmanager.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -14,9 +18,14 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -27,17 +36,71 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
-    @GetMapping
-    @Operation(summary = "Listar usuários", description = "Retorna lista de todos os usuários")
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Listar usuários", description = "Lista os usuários em ordem de ID, com paginação por cursor")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de usuários retornada com sucesso",
-                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = UserResponse.class)))),
+            @ApiResponse(responseCode = "200", description = "Página de usuários retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CursorPageResponse<UserResponse>> findAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        CursorPageResponse<UserResponse> page = userService.findAll(cursor, limit);
+        if (page.getNextCursor() != null) {
+            page.setNext(ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.getNextCursor())
+                    .toUriString());
+        }
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar usuários (NDJSON)",
+            description = "Com Accept: application/x-ndjson, envia todos os usuários em ordem de ID, "
+                    + "um JSON por linha, à medida que são lidos do banco")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Usuários enviados em streaming",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = UserResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        ObjectWriter writer = objectMapper.writerFor(UserResponse.class);
+        StreamingResponseBody body = outputStream -> userService.streamAll(user -> {
+            try {
+                outputStream.write(writer.writeValueAsBytes(user));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Sugerir usuários",
+            description = "Autocompletar para atribuição de tarefas: usuários cujo nome, alguma palavra "
+                    + "do nome ou email começa com o prefixo, sem diferenciar maiúsculas e acentos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sugestões retornadas com sucesso",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = UserSuggestionResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Prefixo ausente",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "401", description = "Não autenticado",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<UserResponse>> findAll() {
-        return ResponseEntity.ok(userService.findAll());
+    public ResponseEntity<List<UserSuggestionResponse>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(userService.suggest(prefix, limit));
     }
 
     @GetMapping("/{id}")
@@ -73,9 +136,11 @@ public class UserController {
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Excluir usuário", description = "Remove usuário do sistema")
+    @Operation(summary = "Excluir usuário",
+            description = "Marca o usuário e seus projetos como excluídos; os dados são removidos "
+                    + "definitivamente em segundo plano")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "204", description = "Usuário excluído com sucesso"),
+            @ApiResponse(responseCode = "202", description = "Exclusão do usuário aceita"),
             @ApiResponse(responseCode = "404", description = "Usuário não encontrado",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "401", description = "Não autenticado",
@@ -83,6 +148,6 @@ public class UserController {
     })
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         userService.delete(id);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.accepted().build();
     }
 }
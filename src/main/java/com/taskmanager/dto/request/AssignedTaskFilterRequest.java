@@ -0,0 +1,34 @@
+package com.taskmanager.dto.request;
+
+import com.taskmanager.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Filtros e ordenação da listagem de tarefas atribuídas ao usuário")
+public class AssignedTaskFilterRequest {
+
+    @Schema(description = "Status da tarefa", example = "TODO")
+    private TaskStatus status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(description = "Prazo a partir de (inclusive)", example = "2025-01-01")
+    private LocalDate deadlineFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(description = "Prazo até (inclusive)", example = "2025-01-31")
+    private LocalDate deadlineTo;
+
+    @Schema(description = "Ordenação: deadline, -deadline, createdAt ou -createdAt (prefixo - para decrescente)",
+            example = "deadline", defaultValue = "deadline")
+    private String sort;
+}
@@ -0,0 +1,45 @@
+package com.taskmanager.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Corpo de um JSON Merge Patch (RFC 7396) de projeto; ver {@link TaskPatchRequest}.
+ */
+@Getter
+@NoArgsConstructor
+@Schema(description = "Alteração parcial de projeto: campos ausentes ficam como estão e null remove o valor")
+public class ProjectPatchRequest {
+
+    @Getter(AccessLevel.NONE)
+    private final Set<String> present = new HashSet<>();
+
+    @Schema(description = "Nome do projeto (não pode ser removido)", example = "Sistema de Vendas")
+    private String name;
+
+    @Schema(description = "Descrição do projeto", example = "Sistema para gerenciar vendas da empresa")
+    private String description;
+
+    public void setName(String name) {
+        this.name = name;
+        present.add("name");
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+        present.add("description");
+    }
+
+    public boolean hasName() {
+        return present.contains("name");
+    }
+
+    public boolean hasDescription() {
+        return present.contains("description");
+    }
+}
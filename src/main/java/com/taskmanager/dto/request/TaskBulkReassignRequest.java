@@ -0,0 +1,25 @@
+package com.taskmanager.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Dados para reatribuição de várias tarefas")
+public class TaskBulkReassignRequest {
+
+    @Valid
+    @NotNull(message = "Filtro é obrigatório")
+    @Schema(description = "Tarefas a reatribuir")
+    private TaskSelectionRequest filter;
+
+    @Schema(description = "ID do novo responsável (ausente para remover a atribuição)", example = "3")
+    private Long assignedUserId;
+}
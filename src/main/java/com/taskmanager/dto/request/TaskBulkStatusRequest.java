@@ -0,0 +1,27 @@
+package com.taskmanager.dto.request;
+
+import com.taskmanager.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Dados para alteração de status de várias tarefas")
+public class TaskBulkStatusRequest {
+
+    @Valid
+    @NotNull(message = "Filtro é obrigatório")
+    @Schema(description = "Tarefas a alterar")
+    private TaskSelectionRequest filter;
+
+    @NotNull(message = "Status é obrigatório")
+    @Schema(description = "Novo status das tarefas", example = "DONE")
+    private TaskStatus status;
+}
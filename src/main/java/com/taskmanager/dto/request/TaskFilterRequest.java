@@ -0,0 +1,38 @@
+package com.taskmanager.dto.request;
+
+import com.taskmanager.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Filtros e ordenação da listagem de tarefas")
+public class TaskFilterRequest {
+
+    @Schema(description = "Status da tarefa", example = "DOING")
+    private TaskStatus status;
+
+    @Schema(description = "ID do usuário atribuído", example = "2")
+    private Long assignedUserId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(description = "Prazo a partir de (inclusive)", example = "2025-01-01")
+    private LocalDate deadlineFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(description = "Prazo até (inclusive)", example = "2025-01-31")
+    private LocalDate deadlineTo;
+
+    @Schema(description = "Ordenação: createdAt, -createdAt, deadline ou -deadline (prefixo - para decrescente); "
+            + "tarefas sem prazo vêm no fim em deadline e no início em -deadline",
+            example = "deadline", defaultValue = "createdAt")
+    private String sort;
+}
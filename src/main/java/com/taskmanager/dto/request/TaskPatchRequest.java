@@ -0,0 +1,85 @@
+package com.taskmanager.dto.request;
+
+import com.taskmanager.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Corpo de um JSON Merge Patch (RFC 7396) de tarefa. Os setters registram quais
+ * campos vieram no documento, para distinguir campo ausente (mantém o valor) de
+ * campo com {@code null} (remove o valor).
+ */
+@Getter
+@NoArgsConstructor
+@Schema(description = "Alteração parcial de tarefa: campos ausentes ficam como estão e null remove o valor")
+public class TaskPatchRequest {
+
+    @Getter(AccessLevel.NONE)
+    private final Set<String> present = new HashSet<>();
+
+    @Schema(description = "Título da tarefa (não pode ser removido)", example = "Implementar login")
+    private String title;
+
+    @Schema(description = "Descrição da tarefa", example = "Criar tela e lógica de autenticação")
+    private String description;
+
+    @Schema(description = "Status da tarefa (não pode ser removido)", example = "DOING")
+    private TaskStatus status;
+
+    @Schema(description = "Prazo para conclusão", example = "2025-12-31")
+    private LocalDate deadline;
+
+    @Schema(description = "ID do usuário atribuído; null remove a atribuição", example = "1")
+    private Long assignedUserId;
+
+    public void setTitle(String title) {
+        this.title = title;
+        present.add("title");
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+        present.add("description");
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+        present.add("status");
+    }
+
+    public void setDeadline(LocalDate deadline) {
+        this.deadline = deadline;
+        present.add("deadline");
+    }
+
+    public void setAssignedUserId(Long assignedUserId) {
+        this.assignedUserId = assignedUserId;
+        present.add("assignedUserId");
+    }
+
+    public boolean hasTitle() {
+        return present.contains("title");
+    }
+
+    public boolean hasDescription() {
+        return present.contains("description");
+    }
+
+    public boolean hasStatus() {
+        return present.contains("status");
+    }
+
+    public boolean hasDeadline() {
+        return present.contains("deadline");
+    }
+
+    public boolean hasAssignedUserId() {
+        return present.contains("assignedUserId");
+    }
+}
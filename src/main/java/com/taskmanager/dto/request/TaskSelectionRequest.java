@@ -0,0 +1,32 @@
+package com.taskmanager.dto.request;
+
+import com.taskmanager.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Critérios de seleção de tarefas para operações em massa (combinados com E)")
+public class TaskSelectionRequest {
+
+    @Size(max = 1000, message = "Informe no máximo 1000 IDs")
+    @Schema(description = "IDs das tarefas", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    @Schema(description = "ID do projeto", example = "1")
+    private Long projectId;
+
+    @Schema(description = "Status atual das tarefas", example = "DOING")
+    private TaskStatus status;
+
+    @Schema(description = "ID do usuário atualmente atribuído", example = "2")
+    private Long assignedUserId;
+}
@@ -0,0 +1,18 @@
+package com.taskmanager.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de uma atualização em massa")
+public class BulkUpdateResponse {
+
+    @Schema(description = "Quantidade de registros alterados", example = "42")
+    private int updated;
+}
@@ -0,0 +1,29 @@
+package com.taskmanager.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Página de resultados com paginação por cursor")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "Itens da página")
+    private List<T> items;
+
+    @Schema(description = "Cursor opaco para a próxima página (ausente na última página)", example = "MjAyNS0wMS0xNVQxMDozMDowMHwxMjM")
+    private String nextCursor;
+
+    @Schema(description = "Link para a próxima página (ausente na última página)",
+            example = "http://localhost:8080/projects/1/tasks?limit=50&cursor=MjAyNS0wMS0xNVQxMDozMDowMHwxMjM")
+    private String next;
+}
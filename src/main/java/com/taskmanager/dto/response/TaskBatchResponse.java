@@ -0,0 +1,48 @@
+package com.taskmanager.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado da criação de tarefas em lote")
+public class TaskBatchResponse {
+
+    @Schema(description = "Quantidade de tarefas criadas", example = "98")
+    private int created;
+
+    @Schema(description = "Quantidade de itens rejeitados", example = "2")
+    private int failed;
+
+    @Schema(description = "Resultado de cada item, na mesma ordem da requisição")
+    private List<Item> items;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Resultado de um item do lote")
+    public static class Item {
+
+        @Schema(description = "Posição do item na requisição", example = "0")
+        private int index;
+
+        @Schema(description = "Código HTTP equivalente do item", example = "201")
+        private int status;
+
+        @Schema(description = "Tarefa criada (apenas itens com sucesso)")
+        private TaskResponse task;
+
+        @Schema(description = "Erros de validação do item")
+        private List<ErrorResponse.FieldError> errors;
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskmanager.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Tarefas criadas, alteradas ou excluídas desde o último token de sincronização")
+public class TaskChangesResponse {
+
+    @Schema(description = "Tarefas criadas ou alteradas, em ordem de alteração")
+    private List<TaskResponse> changed;
+
+    @Schema(description = "IDs das tarefas excluídas", example = "[42, 57]")
+    private List<Long> deleted;
+
+    @Schema(description = "Token a enviar em since na próxima sincronização", example = "MjAyNS0wMS0xNVQxMDozMDowMHwxMjM")
+    private String nextToken;
+
+    @Schema(description = "Há mais alterações: repita a chamada com nextToken imediatamente", example = "false")
+    private boolean hasMore;
+}
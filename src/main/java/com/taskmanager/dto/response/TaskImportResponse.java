@@ -0,0 +1,60 @@
+package com.taskmanager.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado da importação de tarefas por CSV")
+public class TaskImportResponse {
+
+    @Schema(description = "Quantidade de tarefas importadas", example = "99998")
+    private long imported;
+
+    @Schema(description = "Quantidade de linhas rejeitadas", example = "2")
+    private long rejected;
+
+    @Schema(description = "Indica se o arquivo foi lido até o fim; false quando uma falha interrompeu "
+            + "a importação depois de blocos já gravados", example = "true")
+    private boolean completed;
+
+    @Schema(description = "Motivo da interrupção, quando completed é false", example = "CSV inválido: aspas não fechadas no registro da linha 70001")
+    private String failure;
+
+    @Schema(description = "Linha a partir da qual reenviar o arquivo (com o cabeçalho) quando completed é false; "
+            + "as anteriores já foram gravadas ou rejeitadas", example = "70001")
+    private Long resumeFromLine;
+
+    @Schema(description = "Duração da importação em milissegundos", example = "1830")
+    private long durationMillis;
+
+    @Schema(description = "Vazão da importação em linhas por segundo", example = "54644")
+    private long rowsPerSecond;
+
+    @Schema(description = "Linhas rejeitadas e o motivo (no máximo as primeiras 1000)")
+    private List<RowError> errors;
+
+    @Schema(description = "Indica se houve mais rejeições do que as listadas em errors", example = "false")
+    private boolean errorsTruncated;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Linha rejeitada na importação")
+    public static class RowError {
+
+        @Schema(description = "Linha do arquivo em que o registro começa", example = "42")
+        private long line;
+
+        @Schema(description = "Motivo da rejeição", example = "Status inválido: BLOCKED")
+        private String message;
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskmanager.dto.response;
+
+import com.taskmanager.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Tarefa encontrada na busca textual")
+public class TaskSearchResponse {
+
+    @Schema(description = "ID da tarefa", example = "1")
+    private Long id;
+
+    @Schema(description = "Título da tarefa", example = "Implementar login")
+    private String title;
+
+    @Schema(description = "Trecho da descrição (ou do título), escapado para HTML, com os termos "
+            + "encontrados entre <mark> e </mark>",
+            example = "Criar tela de <mark>autenticação</mark> com JWT")
+    private String snippet;
+
+    @Schema(description = "Relevância do resultado; maior é mais relevante", example = "0.6079")
+    private double rank;
+
+    @Schema(description = "Status da tarefa", example = "TODO")
+    private TaskStatus status;
+
+    @Schema(description = "Prazo para conclusão", example = "2025-12-31")
+    private LocalDate deadline;
+
+    @Schema(description = "ID do projeto", example = "1")
+    private Long projectId;
+
+    @Schema(description = "Nome do projeto", example = "Sistema de Vendas")
+    private String projectName;
+}
@@ -0,0 +1,24 @@
+package com.taskmanager.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Usuário sugerido para atribuição")
+public class UserSuggestionResponse {
+
+    @Schema(description = "ID do usuário", example = "1")
+    private Long id;
+
+    @Schema(description = "Nome do usuário", example = "João Silva")
+    private String name;
+
+    @Schema(description = "Email do usuário", example = "joao@email.com")
+    private String email;
+}
@@ -0,0 +1,40 @@
+package com.taskmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de uma tarefa excluída, mantido para que a sincronização incremental
+ * possa informar a exclusão aos clientes. Não referencia a tarefa, que já não
+ * existe; é apagado junto com o projeto ou ao fim do período de retenção.
+ */
+@Entity
+@Table(name = "task_tombstones")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    @ColumnDefault("0")
+    @Column(name = "sync_version", nullable = false)
+    @Builder.Default
+    private Long syncVersion = 0L;
+}
@@ -0,0 +1,108 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.response.TaskSearchResponse;
+import com.taskmanager.entity.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Busca por substring, sem índice, para bancos sem busca textual (H2 nos
+ * testes). Trata a consulta como um único termo; ocorrências no título vêm antes
+ * das que aparecem só na descrição. O trecho é montado aqui, já escapado.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "task.search.full-text", havingValue = "false")
+public class LikeTaskSearchRepository implements TaskSearchRepository {
+
+    private static final double TITLE_RANK = 1.0;
+    private static final double DESCRIPTION_RANK = 0.5;
+    private static final int SNIPPET_CONTEXT = 60;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<TaskSearchResponse> search(Long ownerId, String query, int limit) {
+        String term = query.trim().toLowerCase(Locale.ROOT);
+        String pattern = "%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+
+        List<Tuple> rows = entityManager.createQuery("""
+                        SELECT t.id AS id, t.title AS title, t.description AS description, t.status AS status,
+                               t.deadline AS deadline, p.id AS projectId, p.name AS projectName
+                        FROM Task t JOIN t.project p
+                        WHERE p.owner.id = :ownerId
+                          AND p.deletedAt IS NULL
+                          AND (LOWER(t.title) LIKE :pattern ESCAPE '\\'
+                               OR LOWER(t.description) LIKE :pattern ESCAPE '\\')
+                        ORDER BY CASE WHEN LOWER(t.title) LIKE :pattern ESCAPE '\\' THEN 0 ELSE 1 END, t.id
+                        """, Tuple.class)
+                .setParameter("ownerId", ownerId)
+                .setParameter("pattern", pattern)
+                .setMaxResults(limit)
+                .getResultList();
+
+        return rows.stream().map(row -> toResponse(row, term)).toList();
+    }
+
+    private TaskSearchResponse toResponse(Tuple row, String term) {
+        String title = row.get("title", String.class);
+        String description = row.get("description", String.class);
+        boolean inTitle = indexOfIgnoreCase(title, term) >= 0;
+        boolean inDescription = description != null && indexOfIgnoreCase(description, term) >= 0;
+
+        return TaskSearchResponse.builder()
+                .id(row.get("id", Long.class))
+                .title(title)
+                .snippet(snippet(inDescription ? description : title, term))
+                .rank(inTitle ? TITLE_RANK : DESCRIPTION_RANK)
+                .status(row.get("status", TaskStatus.class))
+                .deadline(row.get("deadline", LocalDate.class))
+                .projectId(row.get("projectId", Long.class))
+                .projectName(row.get("projectName", String.class))
+                .build();
+    }
+
+    private static String snippet(String text, String term) {
+        int start = indexOfIgnoreCase(text, term);
+        if (start < 0) {
+            // o LOWER do banco casou onde o Java não casa: devolve o início sem destaque
+            int to = Math.min(text.length(), 2 * SNIPPET_CONTEXT);
+            return escape(text.substring(0, to)) + (to < text.length() ? "..." : "");
+        }
+        int end = start + term.length();
+        int from = Math.max(0, start - SNIPPET_CONTEXT);
+        int to = Math.min(text.length(), end + SNIPPET_CONTEXT);
+
+        return (from > 0 ? "..." : "")
+                + escape(text.substring(from, start))
+                + HIGHLIGHT_START + escape(text.substring(start, end)) + HIGHLIGHT_END
+                + escape(text.substring(end, to))
+                + (to < text.length() ? "..." : "");
+    }
+
+    private static String escape(String text) {
+        return HtmlUtils.htmlEscape(text, StandardCharsets.UTF_8.name());
+    }
+
+    /**
+     * Posição do termo comparando o próprio texto, sem convertê-lo: o
+     * {@code toLowerCase} pode mudar o tamanho da string e deslocar os índices.
+     */
+    private static int indexOfIgnoreCase(String text, String term) {
+        for (int i = 0; i + term.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, term, 0, term.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
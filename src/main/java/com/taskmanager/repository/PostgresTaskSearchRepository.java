@@ -0,0 +1,71 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.response.TaskSearchResponse;
+import com.taskmanager.entity.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Busca pela coluna gerada {@code tasks.search_vector} (título com peso A,
+ * descrição com peso B) e seu índice GIN. A consulta interna ordena e limita
+ * pelo {@code ts_rank}; o {@code ts_headline}, que relê o texto inteiro, só roda
+ * para as linhas que vão na resposta. O trecho volta com o texto cru e é escapado
+ * aqui, por isso os termos vêm marcados com {@link #MATCH_START}/{@link #MATCH_END}.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "task.search.full-text", havingValue = "true", matchIfMissing = true)
+public class PostgresTaskSearchRepository implements TaskSearchRepository {
+
+    private static final String SEARCH_SQL = """
+            SELECT r.id, r.title, r.rank, r.status, r.deadline, r.project_id, r.project_name,
+                   ts_headline('portuguese', coalesce(r.description, r.title), r.query, :headlineOptions) AS snippet
+            FROM (
+                SELECT t.id, t.title, t.description, t.status, t.deadline, t.project_id,
+                       p.name AS project_name, q.query, ts_rank(t.search_vector, q.query) AS rank
+                FROM tasks t
+                JOIN projects p ON p.id = t.project_id
+                CROSS JOIN websearch_to_tsquery('portuguese', :query) AS q(query)
+                WHERE p.owner_id = :ownerId
+                  AND p.deleted_at IS NULL
+                  AND t.search_vector @@ q.query
+                ORDER BY rank DESC, t.id
+                LIMIT :limit
+            ) r
+            ORDER BY r.rank DESC, r.id
+            """;
+
+    private static final String HEADLINE_OPTIONS =
+            "StartSel=\"%s\", StopSel=\"%s\", MaxWords=30, MinWords=10, MaxFragments=2"
+                    .formatted(MATCH_START, MATCH_END);
+
+    private static final RowMapper<TaskSearchResponse> ROW_MAPPER = (rs, rowNum) -> TaskSearchResponse.builder()
+            .id(rs.getLong("id"))
+            .title(rs.getString("title"))
+            .snippet(TaskSearchRepository.toHtmlSnippet(rs.getString("snippet")))
+            .rank(rs.getDouble("rank"))
+            .status(TaskStatus.valueOf(rs.getString("status")))
+            .deadline(rs.getObject("deadline", LocalDate.class))
+            .projectId(rs.getLong("project_id"))
+            .projectName(rs.getString("project_name"))
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TaskSearchResponse> search(Long ownerId, String query, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ownerId", ownerId)
+                .addValue("query", query)
+                .addValue("limit", limit)
+                .addValue("headlineOptions", HEADLINE_OPTIONS);
+        return jdbcTemplate.query(SEARCH_SQL, params, ROW_MAPPER);
+    }
+}
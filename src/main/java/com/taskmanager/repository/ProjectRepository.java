@@ -1,10 +1,17 @@
 package com.taskmanager.repository;
 
+import com.taskmanager.dto.response.ProjectResponse;
 import com.taskmanager.entity.Project;
 import com.taskmanager.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +22,115 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     List<Project> findByOwnerId(Long ownerId);
 
+    @Query("""
+            SELECT new com.taskmanager.dto.response.ProjectResponse(
+                p.id, p.name, p.description, o.id, o.name, p.createdAt)
+            FROM Project p JOIN p.owner o
+            WHERE o.id = :ownerId
+            """)
+    List<ProjectResponse> findResponsesByOwnerId(@Param("ownerId") Long ownerId);
+
+    @EntityGraph(attributePaths = "owner")
     Optional<Project> findByIdAndOwnerId(Long id, Long ownerId);
 
     boolean existsByIdAndOwnerId(Long id, Long ownerId);
+
+    /**
+     * Versão do projeto para ETag: a coluna {@code @Version} e a alteração do dono,
+     * cujo nome vai na resposta.
+     */
+    @Query("""
+            SELECT new com.taskmanager.repository.ResourceVersion(p.version, o.updatedAt)
+            FROM Project p JOIN p.owner o
+            WHERE p.id = :id AND o.id = :ownerId
+            """)
+    Optional<ResourceVersion> findVersionByIdAndOwnerId(@Param("id") Long id, @Param("ownerId") Long ownerId);
+
+    /**
+     * Versão da lista de projetos do dono para ETag: o contador de escritas nos
+     * projetos e a alteração do próprio dono, cujo nome vai em cada projeto.
+     */
+    @Query("""
+            SELECT new com.taskmanager.repository.VersionStamp(o.projectsVersion, o.updatedAt)
+            FROM User o
+            WHERE o.id = :ownerId
+            """)
+    Optional<VersionStamp> findVersionByOwnerId(@Param("ownerId") Long ownerId);
+
+    /**
+     * Avança o contador da lista de projetos do dono. Deve ser chamado na
+     * transação que escreve o projeto: a linha do dono fica bloqueada até o
+     * commit, e as escritas seguintes esperam por ele.
+     */
+    @Modifying
+    @Query("UPDATE User o SET o.projectsVersion = o.projectsVersion + 1 WHERE o.id = :ownerId")
+    int incrementProjectsVersion(@Param("ownerId") Long ownerId);
+
+    /**
+     * Avança o contador das tarefas do projeto. Deve ser chamado na transação que
+     * escreve as tarefas, antes delas: a linha do projeto fica bloqueada até o
+     * commit, e as escritas seguintes esperam por ele.
+     */
+    @Modifying
+    @Query("UPDATE Project p SET p.tasksVersion = p.tasksVersion + 1 WHERE p.id = :id")
+    int incrementTasksVersion(@Param("id") Long id);
+
+    @Query("SELECT p.tasksVersion FROM Project p WHERE p.id = :id")
+    Long findTasksVersionById(@Param("id") Long id);
+
+    /**
+     * Avança o contador das tarefas do projeto e devolve o novo valor, que a
+     * escrita grava como {@code syncVersion} das tarefas.
+     */
+    default long nextTasksVersion(Long id) {
+        incrementTasksVersion(id);
+        return findTasksVersionById(id);
+    }
+
+    /**
+     * Como {@link #incrementTasksVersion}, para o projeto da tarefa, se for do dono.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Project p SET p.tasksVersion = p.tasksVersion + 1
+            WHERE p.owner.id = :ownerId
+              AND p.id = (SELECT t.project.id FROM Task t WHERE t.id = :taskId)
+            """)
+    int incrementTasksVersionByTaskId(@Param("taskId") Long taskId, @Param("ownerId") Long ownerId);
+
+    /**
+     * Como {@link #incrementTasksVersion}, para todo projeto com tarefa atribuída ao usuário.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Project p SET p.tasksVersion = p.tasksVersion + 1
+            WHERE p.id IN (SELECT t.project.id FROM Task t WHERE t.assignedUser.id = :userId)
+            """)
+    int incrementTasksVersionByAssignedUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("""
+            UPDATE Project p SET p.deletedAt = :deletedAt, p.updatedAt = :deletedAt
+            WHERE p.id = :id AND p.owner.id = :ownerId AND p.deletedAt IS NULL
+            """)
+    int softDeleteByIdAndOwnerId(
+            @Param("id") Long id,
+            @Param("ownerId") Long ownerId,
+            @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying
+    @Query("""
+            UPDATE Project p SET p.deletedAt = :deletedAt, p.updatedAt = :deletedAt
+            WHERE p.owner.id = :ownerId AND p.deletedAt IS NULL
+            """)
+    int softDeleteByOwnerId(@Param("ownerId") Long ownerId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Query(value = "SELECT id FROM projects WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findDeletedIds(@Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM projects WHERE id = :id AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeById(@Param("id") Long id);
 }
@@ -0,0 +1,20 @@
+package com.taskmanager.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Versão de um único recurso, usada como ETag e comparada em If-Match.
+ *
+ * @param version         a coluna {@code @Version} do recurso
+ * @param parentUpdatedAt última alteração do registro pai, cujos dados vão na resposta
+ */
+public record ResourceVersion(long version, LocalDateTime parentUpdatedAt) {
+
+    public String toETag() {
+        String raw = version + "|" + Objects.toString(parentUpdatedAt, "");
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
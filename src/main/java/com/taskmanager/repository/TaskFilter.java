@@ -0,0 +1,25 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.TaskStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Critérios para consultas e atualizações de tarefas montadas dinamicamente.
+ * Campos nulos são ignorados.
+ */
+@Value
+@Builder
+public class TaskFilter {
+
+    Long ownerId;
+    List<Long> ids;
+    Long projectId;
+    TaskStatus status;
+    Long assignedUserId;
+    LocalDate deadlineFrom;
+    LocalDate deadlineTo;
+}
@@ -0,0 +1,220 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Gravação de importações em massa de tarefas. No PostgreSQL usa o protocolo
+ * COPY na conexão da transação corrente; nos demais bancos (H2 nos testes)
+ * persiste entidades em lotes JDBC do Hibernate.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskImportRepository {
+
+    private final DataSource dataSource;
+    private final EntityManager entityManager;
+
+    /**
+     * Abre a gravação de um bloco para o projeto. Deve ser chamado dentro de uma
+     * transação, que também envolve as chamadas ao {@link TaskImportSink} devolvido.
+     */
+    public TaskImportSink open(Long projectId) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                return new CopySink(connection, dataSource, projectId);
+            }
+        } catch (SQLException e) {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+            throw new IllegalStateException("Falha ao iniciar a importação", e);
+        }
+        DataSourceUtils.releaseConnection(connection, dataSource);
+        return new BatchInsertSink(entityManager, projectId);
+    }
+
+    /**
+     * Envia cada bloco de linhas como CSV em um {@code COPY ... FROM STDIN}. Os ids
+     * vêm da {@code tasks_id_seq} em faixas de {@link #ID_BLOCK_SIZE}, como faz o
+     * otimizador pooled do Hibernate, reservadas antes de cada COPY porque a conexão
+     * não aceita outros comandos com a cópia ativa. A conexão é a da transação
+     * corrente e volta para ela em {@link #finish()} ou {@link #abort()}.
+     */
+    static final class CopySink implements TaskImportSink {
+
+        static final int ID_BLOCK_SIZE = 50;
+
+        private static final String COPY_SQL = """
+                COPY tasks (id, title, description, status, deadline, project_id, assigned_user_id,
+                            created_at, updated_at, sync_version)
+                FROM STDIN WITH (FORMAT csv)
+                """;
+        private static final String NEXT_ID_BLOCKS_SQL =
+                "SELECT nextval('tasks_id_seq') FROM generate_series(1, ?)";
+
+        private final Connection connection;
+        private final DataSource dataSource;
+        private final CopyManager copyManager;
+        private final Long projectId;
+        private final Deque<Long> ids = new ArrayDeque<>();
+        private CopyIn copyIn;
+        private long inserted;
+        private boolean released;
+
+        CopySink(Connection connection, DataSource dataSource, Long projectId) throws SQLException {
+            this.connection = connection;
+            this.dataSource = dataSource;
+            this.copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            this.projectId = projectId;
+        }
+
+        @Override
+        public void write(List<TaskImportRow> rows, long syncVersion) {
+            try {
+                reserveIds(rows.size());
+                LocalDateTime now = LocalDateTime.now();
+                StringBuilder csv = new StringBuilder(rows.size() * 128);
+                for (TaskImportRow row : rows) {
+                    csv.append(ids.removeFirst()).append(',');
+                    appendText(csv, row.title());
+                    csv.append(',');
+                    if (row.description() != null) {
+                        appendText(csv, row.description());
+                    }
+                    csv.append(',').append(row.status().name())
+                            .append(',').append(Objects.toString(row.deadline(), ""))
+                            .append(',').append(projectId)
+                            .append(',').append(Objects.toString(row.assignedUserId(), ""))
+                            .append(',').append(now)
+                            .append(',').append(now)
+                            .append(',').append(syncVersion)
+                            .append('\n');
+                }
+                byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+
+                copyIn = copyManager.copyIn(COPY_SQL);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+                inserted += copyIn.endCopy();
+                copyIn = null;
+            } catch (SQLException e) {
+                throw new IllegalStateException("Falha ao enviar tarefas pelo COPY", e);
+            }
+        }
+
+        @Override
+        public long finish() {
+            release();
+            return inserted;
+        }
+
+        @Override
+        public void abort() {
+            try {
+                if (copyIn != null && copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            } catch (SQLException e) {
+                // a transação será desfeita de qualquer forma
+            } finally {
+                release();
+            }
+        }
+
+        private void release() {
+            if (!released) {
+                released = true;
+                DataSourceUtils.releaseConnection(connection, dataSource);
+            }
+        }
+
+        private void reserveIds(int count) throws SQLException {
+            int missing = count - ids.size();
+            if (missing <= 0) {
+                return;
+            }
+            int blocks = (missing + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+            try (PreparedStatement statement = connection.prepareStatement(NEXT_ID_BLOCKS_SQL)) {
+                statement.setInt(1, blocks);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        long hi = rs.getLong(1);
+                        for (long id = hi - ID_BLOCK_SIZE + 1; id <= hi; id++) {
+                            ids.addLast(id);
+                        }
+                    }
+                }
+            }
+        }
+
+        private static void appendText(StringBuilder csv, String value) {
+            csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    /**
+     * Persiste entidades usando o lote JDBC do Hibernate ({@code jdbc.batch_size})
+     * e limpa o contexto de persistência a cada bloco para manter a memória constante.
+     */
+    static final class BatchInsertSink implements TaskImportSink {
+
+        private final EntityManager entityManager;
+        private final Long projectId;
+        private long inserted;
+
+        BatchInsertSink(EntityManager entityManager, Long projectId) {
+            this.entityManager = entityManager;
+            this.projectId = projectId;
+        }
+
+        @Override
+        public void write(List<TaskImportRow> rows, long syncVersion) {
+            Project project = entityManager.getReference(Project.class, projectId);
+            for (TaskImportRow row : rows) {
+                entityManager.persist(Task.builder()
+                        .title(row.title())
+                        .description(row.description())
+                        .status(row.status())
+                        .deadline(row.deadline())
+                        .project(project)
+                        .assignedUser(row.assignedUserId() != null
+                                ? entityManager.getReference(User.class, row.assignedUserId())
+                                : null)
+                        .syncVersion(syncVersion)
+                        .build());
+            }
+            entityManager.flush();
+            entityManager.clear();
+            inserted += rows.size();
+        }
+
+        @Override
+        public long finish() {
+            return inserted;
+        }
+
+        @Override
+        public void abort() {
+            entityManager.clear();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Linha de importação já validada, pronta para ser gravada.
+ */
+public record TaskImportRow(
+        String title,
+        String description,
+        TaskStatus status,
+        LocalDate deadline,
+        Long assignedUserId
+) {
+}
@@ -0,0 +1,27 @@
+package com.taskmanager.repository;
+
+import java.util.List;
+
+/**
+ * Destino de um bloco de uma importação de tarefas. Grava as linhas na transação
+ * corrente e deve ser encerrado com {@link #finish()} ou {@link #abort()}, que
+ * devolvem a conexão usada.
+ */
+public interface TaskImportSink {
+
+    /**
+     * Grava um bloco de linhas com a posição {@code syncVersion} na sincronização incremental.
+     */
+    void write(List<TaskImportRow> rows, long syncVersion);
+
+    /**
+     * Conclui a gravação e devolve a quantidade de tarefas inseridas.
+     */
+    long finish();
+
+    /**
+     * Interrompe a gravação após uma falha; as linhas já enviadas são descartadas
+     * com o rollback da transação.
+     */
+    void abort();
+}
@@ -1,20 +1,187 @@
 package com.taskmanager.repository;
 
+import com.taskmanager.dto.response.TaskResponse;
 import com.taskmanager.entity.Task;
 import com.taskmanager.entity.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * Tarefas não têm exclusão lógica própria, mas somem junto com o projeto: toda
+ * leitura junta {@code project} e filtra {@code p.deletedAt IS NULL}.
+ */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
 
-    List<Task> findByProjectId(Long projectId);
+    /**
+     * Tamanho de cada lote trazido do cursor do banco em {@link #streamResponsesByProjectId}.
+     */
+    String STREAM_FETCH_SIZE = "1000";
 
-    List<Task> findByProjectIdAndStatus(Long projectId, TaskStatus status);
+    @Override
+    @Query("""
+            SELECT t FROM Task t JOIN FETCH t.project p LEFT JOIN FETCH t.assignedUser
+            WHERE t.id = :id AND p.deletedAt IS NULL
+            """)
+    Optional<Task> findById(@Param("id") Long id);
 
-    List<Task> findByAssignedUserId(Long userId);
+    @Override
+    @Query("SELECT COUNT(t) > 0 FROM Task t JOIN t.project p WHERE t.id = :id AND p.deletedAt IS NULL")
+    boolean existsById(@Param("id") Long id);
 
-    boolean existsByIdAndProjectOwnerId(Long taskId, Long ownerId);
+    @Query("""
+            SELECT t FROM Task t JOIN FETCH t.project p LEFT JOIN FETCH t.assignedUser
+            WHERE t.id = :id AND p.owner.id = :ownerId AND p.deletedAt IS NULL
+            """)
+    Optional<Task> findByIdAndProjectOwnerId(@Param("id") Long id, @Param("ownerId") Long ownerId);
+
+    @Query("""
+            SELECT new com.taskmanager.dto.response.TaskResponse(
+                t.id, t.title, t.description, t.status, t.deadline,
+                p.id, p.name, u.id, u.name, t.createdAt)
+            FROM Task t JOIN t.project p LEFT JOIN t.assignedUser u
+            WHERE t.id = :id AND p.deletedAt IS NULL
+            """)
+    Optional<TaskResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * Tarefas do projeto em ordem de id, lidas por um cursor no servidor em lotes
+     * de {@link #STREAM_FETCH_SIZE}. Deve ser consumido e fechado dentro de uma transação.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("""
+            SELECT new com.taskmanager.dto.response.TaskResponse(
+                t.id, t.title, t.description, t.status, t.deadline,
+                p.id, p.name, u.id, u.name, t.createdAt)
+            FROM Task t JOIN t.project p LEFT JOIN t.assignedUser u
+            WHERE p.id = :projectId AND p.deletedAt IS NULL
+            ORDER BY t.id
+            """)
+    Stream<TaskResponse> streamResponsesByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT t FROM Task t JOIN t.project p WHERE p.id = :projectId AND p.deletedAt IS NULL")
+    List<Task> findByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Tarefas do projeto escritas depois de {@code (since, afterId)} e até a
+     * versão {@code until}, em ordem de {@code (syncVersion, id)}. O predicado
+     * redundante {@code syncVersion >= since} delimita a varredura de idx_tasks_project_sync.
+     */
+    @Query("""
+            SELECT t FROM Task t JOIN FETCH t.project p LEFT JOIN FETCH t.assignedUser
+            WHERE p.id = :projectId
+              AND t.syncVersion >= :since AND t.syncVersion <= :until
+              AND (t.syncVersion > :since OR t.id > :afterId)
+            ORDER BY t.syncVersion, t.id
+            """)
+    List<Task> findChangedByProjectId(
+            @Param("projectId") Long projectId,
+            @Param("since") long since,
+            @Param("afterId") long afterId,
+            @Param("until") long until,
+            Limit limit);
+
+    @Query("""
+            SELECT t FROM Task t JOIN t.project p
+            WHERE p.id = :projectId AND t.status = :status AND p.deletedAt IS NULL
+            """)
+    List<Task> findByProjectIdAndStatus(@Param("projectId") Long projectId, @Param("status") TaskStatus status);
+
+    @Query("SELECT t FROM Task t JOIN t.project p WHERE t.assignedUser.id = :userId AND p.deletedAt IS NULL")
+    List<Task> findByAssignedUserId(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT COUNT(t) > 0 FROM Task t JOIN t.project p
+            WHERE t.id = :taskId AND p.owner.id = :ownerId AND p.deletedAt IS NULL
+            """)
+    boolean existsByIdAndProjectOwnerId(@Param("taskId") Long taskId, @Param("ownerId") Long ownerId);
+
+    @Modifying
+    @Query("""
+            UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1,
+                t.syncVersion = (SELECT p.tasksVersion FROM Project p WHERE p.id = t.project.id)
+            WHERE t.id = :id
+              AND t.project.id IN (
+                  SELECT p.id FROM Project p WHERE p.owner.id = :ownerId AND p.deletedAt IS NULL)
+            """)
+    int updateStatusByIdAndOwnerId(
+            @Param("id") Long id,
+            @Param("ownerId") Long ownerId,
+            @Param("status") TaskStatus status,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("""
+            DELETE FROM Task t
+            WHERE t.id = :id
+              AND t.project.id IN (
+                  SELECT p.id FROM Project p WHERE p.owner.id = :ownerId AND p.deletedAt IS NULL)
+            """)
+    int deleteByIdAndOwnerId(@Param("id") Long id, @Param("ownerId") Long ownerId);
+
+    /**
+     * Remove até {@code limit} tarefas do projeto; usado pelo expurgo em lotes.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM tasks
+            WHERE id IN (SELECT id FROM tasks WHERE project_id = :projectId LIMIT :limit)
+            """, nativeQuery = true)
+    int deleteChunkByProjectId(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    /**
+     * Remove a atribuição de até {@code limit} tarefas do usuário; usado pelo expurgo em lotes.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE tasks SET assigned_user_id = NULL, updated_at = :updatedAt, version = version + 1
+            WHERE id IN (SELECT id FROM tasks WHERE assigned_user_id = :userId LIMIT :limit)
+            """, nativeQuery = true)
+    int unassignChunkByUserId(
+            @Param("userId") Long userId,
+            @Param("limit") int limit,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Marca como alteradas as tarefas atribuídas ao usuário, cujas respostas
+     * trazem o nome dele; usado quando o nome muda e quando o usuário é
+     * excluído. A versão também avança, para que a ETag de cada tarefa acompanhe
+     * a resposta.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Task t SET t.updatedAt = :updatedAt, t.version = t.version + 1,
+                t.syncVersion = (SELECT p.tasksVersion FROM Project p WHERE p.id = t.project.id)
+            WHERE t.assignedUser.id = :userId
+            """)
+    int touchByAssignedUserId(@Param("userId") Long userId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Versão das tarefas do projeto para ETag: o contador de escritas nas tarefas
+     * e a última alteração do próprio projeto, cujo nome vai em cada tarefa.
+     * Vazio quando o projeto não existe ou não pertence ao dono.
+     */
+    @Query("""
+            SELECT new com.taskmanager.repository.VersionStamp(p.tasksVersion, p.updatedAt)
+            FROM Project p
+            WHERE p.id = :projectId AND p.owner.id = :ownerId
+            """)
+    Optional<VersionStamp> findVersionByProjectIdAndOwnerId(
+            @Param("projectId") Long projectId,
+            @Param("ownerId") Long ownerId);
 }
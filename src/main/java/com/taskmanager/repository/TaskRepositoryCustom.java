@@ -0,0 +1,28 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.response.TaskResponse;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.entity.User;
+
+import java.util.List;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Página de tarefas ordenada por {@code sort} e {@code id}. Com {@code afterId}
+     * nulo retorna a primeira página; senão, os itens depois de
+     * ({@code afterValue}, {@code afterId}), onde {@code afterValue} pode ser nulo
+     * quando o campo ordenado é opcional.
+     */
+    List<TaskResponse> findResponsePage(TaskFilter filter, TaskSort sort, Object afterValue, Long afterId, int limit);
+
+    /**
+     * Avança o contador de tarefas de cada projeto com alguma tarefa selecionada
+     * por {@code filter}; chamado antes de uma atualização em massa, na mesma transação.
+     */
+    int incrementTasksVersions(TaskFilter filter);
+
+    int updateStatus(TaskFilter filter, TaskStatus status);
+
+    int updateAssignedUser(TaskFilter filter, User assignedUser);
+}
@@ -0,0 +1,235 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.response.TaskResponse;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CommonAbstractCriteria;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.query.NullPrecedence;
+import org.hibernate.query.criteria.JpaOrder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consultas e atualizações de tarefas com filtros dinâmicos. Cada chamada vira
+ * um único comando SQL parametrizado, sem carregar entidades.
+ */
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Página na ordem de {@code sort} depois de ({@code afterValue}, {@code afterId}).
+     * Em campos opcionais os nulos formam um trecho à parte do índice (no fim da
+     * ordem crescente, no início da decrescente); um cursor nunca atravessa os dois
+     * trechos na mesma consulta, para que cada uma seja um intervalo do índice.
+     * Quando o trecho do cursor acaba antes de {@code limit}, uma segunda consulta
+     * completa a página com o início do trecho seguinte.
+     */
+    @Override
+    public List<TaskResponse> findResponsePage(
+            TaskFilter filter, TaskSort sort, Object afterValue, Long afterId, int limit) {
+        if (afterId == null) {
+            return findResponses(filter, sort, (cb, task) -> null, limit);
+        }
+
+        boolean inNulls = afterValue == null;
+        List<TaskResponse> page = findResponses(filter, sort, inNulls
+                ? (cb, task) -> cb.and(cb.isNull(task.get(sort.getProperty())), idAfter(cb, task, sort, afterId))
+                : (cb, task) -> after(cb, task, sort, afterValue, afterId), limit);
+
+        boolean nullsLast = !sort.isDescending();
+        if (sort.isNullable() && page.size() < limit && inNulls != nullsLast) {
+            List<TaskResponse> rest = findResponses(filter, sort, inNulls
+                    ? (cb, task) -> cb.isNotNull(task.get(sort.getProperty()))
+                    : (cb, task) -> cb.isNull(task.get(sort.getProperty())), limit - page.size());
+            page = new ArrayList<>(page);
+            page.addAll(rest);
+        }
+        return page;
+    }
+
+    private List<TaskResponse> findResponses(TaskFilter filter, TaskSort sort, Position position, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> task = query.from(Task.class);
+        Join<Task, Project> project = task.join("project");
+        Join<Task, User> assignedUser = task.join("assignedUser", JoinType.LEFT);
+
+        query.select(cb.construct(TaskResponse.class,
+                task.get("id"), task.get("title"), task.get("description"), task.get("status"),
+                task.get("deadline"), project.get("id"), project.get("name"),
+                assignedUser.get("id"), assignedUser.get("name"), task.get("createdAt")));
+
+        List<Predicate> predicates = predicates(cb, query, task, filter);
+        predicates.add(cb.isNull(project.get("deletedAt")));
+        Predicate positionPredicate = position.toPredicate(cb, task);
+        if (positionPredicate != null) {
+            predicates.add(positionPredicate);
+        }
+
+        Path<Comparable<Object>> sortPath = task.get(sort.getProperty());
+        Path<Long> id = task.get("id");
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(nullPrecedence(sort.isDescending() ? cb.desc(sortPath) : cb.asc(sortPath), sort),
+                        sort.isDescending() ? cb.desc(id) : cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public int incrementTasksVersions(TaskFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Project> update = cb.createCriteriaUpdate(Project.class);
+        Root<Project> project = update.from(Project.class);
+
+        Subquery<Long> selectedProjects = update.subquery(Long.class);
+        Root<Task> task = selectedProjects.from(Task.class);
+        selectedProjects.select(task.get("project").get("id"))
+                .where(predicates(cb, selectedProjects, task, filter).toArray(Predicate[]::new));
+
+        update.set(project.<Long>get("tasksVersion"), cb.sum(project.<Long>get("tasksVersion"), 1L))
+                .where(project.get("id").in(selectedProjects));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public int updateStatus(TaskFilter filter, TaskStatus status) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+
+        update.set(task.<TaskStatus>get("status"), status)
+                .set(task.<LocalDateTime>get("updatedAt"), LocalDateTime.now())
+                .set(task.<Long>get("version"), cb.sum(task.<Long>get("version"), 1L))
+                .set(task.<Long>get("syncVersion"), projectTasksVersion(update, task))
+                .where(predicates(cb, update, task, filter).toArray(Predicate[]::new));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public int updateAssignedUser(TaskFilter filter, User assignedUser) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+
+        update.set(task.<User>get("assignedUser"), assignedUser)
+                .set(task.<LocalDateTime>get("updatedAt"), LocalDateTime.now())
+                .set(task.<Long>get("version"), cb.sum(task.<Long>get("version"), 1L))
+                .set(task.<Long>get("syncVersion"), projectTasksVersion(update, task))
+                .where(predicates(cb, update, task, filter).toArray(Predicate[]::new));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    /**
+     * Contador de tarefas do projeto da tarefa, já avançado por
+     * {@link #incrementTasksVersions} na mesma transação.
+     */
+    private Subquery<Long> projectTasksVersion(CriteriaUpdate<Task> update, Root<Task> task) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        Subquery<Long> tasksVersion = update.subquery(Long.class);
+        Root<Project> project = tasksVersion.from(Project.class);
+        return tasksVersion.select(project.get("tasksVersion"))
+                .where(cb.equal(project.get("id"), task.get("project").get("id")));
+    }
+
+    private List<Predicate> predicates(
+            CriteriaBuilder cb, CommonAbstractCriteria criteria, Root<Task> task, TaskFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (filter.getOwnerId() != null) {
+            Subquery<Long> ownedProjects = criteria.subquery(Long.class);
+            Root<Project> project = ownedProjects.from(Project.class);
+            ownedProjects.select(project.get("id"))
+                    .where(cb.equal(project.get("owner").get("id"), filter.getOwnerId()),
+                            cb.isNull(project.get("deletedAt")));
+            predicates.add(task.get("project").get("id").in(ownedProjects));
+        }
+        if (filter.getIds() != null && !filter.getIds().isEmpty()) {
+            predicates.add(task.get("id").in(filter.getIds()));
+        }
+        if (filter.getProjectId() != null) {
+            predicates.add(cb.equal(task.get("project").get("id"), filter.getProjectId()));
+        }
+        if (filter.getStatus() != null) {
+            predicates.add(cb.equal(task.get("status"), filter.getStatus()));
+        }
+        if (filter.getAssignedUserId() != null) {
+            predicates.add(cb.equal(task.get("assignedUser").get("id"), filter.getAssignedUserId()));
+        }
+        if (filter.getDeadlineFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(task.<LocalDate>get("deadline"), filter.getDeadlineFrom()));
+        }
+        if (filter.getDeadlineTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(task.<LocalDate>get("deadline"), filter.getDeadlineTo()));
+        }
+
+        return predicates;
+    }
+
+    /**
+     * Itens depois de ({@code value}, {@code id}) na ordem de {@code sort}, entre
+     * os que têm valor. A expansão com OR é usada porque o Hibernate não compara
+     * tuplas com parâmetros; o limite redundante {@code valor >= :value} (ou
+     * {@code <=}) vem na frente para que o banco comece a varredura do índice na
+     * posição do cursor, e não no início do projeto.
+     */
+    private Predicate after(CriteriaBuilder cb, Root<Task> task, TaskSort sort, Object value, Long id) {
+        Expression<Comparable<Object>> property = task.get(sort.getProperty());
+
+        @SuppressWarnings("unchecked")
+        Comparable<Object> comparable = (Comparable<Object>) value;
+        Predicate bound = sort.isDescending()
+                ? cb.lessThanOrEqualTo(property, comparable)
+                : cb.greaterThanOrEqualTo(property, comparable);
+        Predicate valueAfter = sort.isDescending()
+                ? cb.lessThan(property, comparable)
+                : cb.greaterThan(property, comparable);
+        return cb.and(bound, cb.or(valueAfter, idAfter(cb, task, sort, id)));
+    }
+
+    private Predicate idAfter(CriteriaBuilder cb, Root<Task> task, TaskSort sort, Long id) {
+        Expression<Long> taskId = task.get("id");
+        return sort.isDescending() ? cb.lessThan(taskId, id) : cb.greaterThan(taskId, id);
+    }
+
+    /**
+     * Nulos por último na ordem crescente e primeiro na decrescente, que é como o
+     * PostgreSQL percorre um índice crescente nos dois sentidos.
+     */
+    private Order nullPrecedence(Order order, TaskSort sort) {
+        return ((JpaOrder) order).nullPrecedence(sort.isDescending() ? NullPrecedence.FIRST : NullPrecedence.LAST);
+    }
+
+    /**
+     * Restrição de posição de uma consulta da página; nula quando não há.
+     */
+    @FunctionalInterface
+    private interface Position {
+
+        Predicate toPredicate(CriteriaBuilder cb, Root<Task> task);
+    }
+}
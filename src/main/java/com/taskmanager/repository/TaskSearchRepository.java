@@ -0,0 +1,41 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.response.TaskSearchResponse;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Busca textual em título e descrição das tarefas dos projetos de um dono.
+ * A implementação é escolhida por {@code task.search.full-text}: índice de texto
+ * do PostgreSQL em produção, comparação por LIKE nos testes com H2.
+ */
+public interface TaskSearchRepository {
+
+    String HIGHLIGHT_START = "<mark>";
+    String HIGHLIGHT_END = "</mark>";
+
+    /**
+     * Delimitadores do termo encontrado antes do escape: caracteres de controle,
+     * que o escape HTML preserva e que não aparecem em texto digitado.
+     */
+    String MATCH_START = "\u0002";
+    String MATCH_END = "\u0003";
+
+    /**
+     * Resultados ordenados do mais para o menos relevante, no máximo {@code limit}.
+     */
+    List<TaskSearchResponse> search(Long ownerId, String query, int limit);
+
+    /**
+     * Escapa o trecho para HTML e só então troca os delimitadores por
+     * {@link #HIGHLIGHT_START} e {@link #HIGHLIGHT_END}, para que o texto da
+     * tarefa nunca chegue ao cliente como marcação.
+     */
+    static String toHtmlSnippet(String text) {
+        return HtmlUtils.htmlEscape(text, StandardCharsets.UTF_8.name())
+                .replace(MATCH_START, HIGHLIGHT_START)
+                .replace(MATCH_END, HIGHLIGHT_END);
+    }
+}
@@ -0,0 +1,36 @@
+package com.taskmanager.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Ordenações aceitas na listagem de tarefas. O {@code id} sempre entra como
+ * desempate, na mesma direção, o que mantém a paginação por cursor estável.
+ *
+ * <p>Em campos opcionais ({@code nullable}) os nulos vêm por último na ordem
+ * crescente e primeiro na decrescente: uma é o inverso exato da outra, e as duas
+ * seguem o mesmo índice crescente.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskSort {
+
+    CREATED_AT_ASC("createdAt", "createdAt", false, false),
+    CREATED_AT_DESC("-createdAt", "createdAt", true, false),
+    DEADLINE_ASC("deadline", "deadline", false, true),
+    DEADLINE_DESC("-deadline", "deadline", true, true);
+
+    private final String param;
+    private final String property;
+    private final boolean descending;
+    private final boolean nullable;
+
+    public static Optional<TaskSort> fromParam(String param) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.param.equals(param))
+                .findFirst();
+    }
+}
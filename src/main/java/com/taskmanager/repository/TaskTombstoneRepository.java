@@ -0,0 +1,69 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * Registra a exclusão da tarefa se ela pertencer a um projeto ativo do dono;
+     * retorna 0 caso contrário, sem precisar carregar a tarefa. A exclusão recebe
+     * o contador de tarefas do projeto, já avançado pela transação.
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO TaskTombstone (taskId, projectId, deletedAt, syncVersion)
+            SELECT t.id, p.id, :deletedAt, p.tasksVersion
+            FROM Task t JOIN t.project p
+            WHERE t.id = :id AND p.owner.id = :ownerId AND p.deletedAt IS NULL
+            """)
+    int insertForOwnedTask(
+            @Param("id") Long id,
+            @Param("ownerId") Long ownerId,
+            @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Exclusões do projeto depois de {@code (since, afterTaskId)} e até a versão
+     * {@code until}, na mesma ordem de {@link TaskRepository#findChangedByProjectId}.
+     */
+    @Query("""
+            SELECT tt FROM TaskTombstone tt
+            WHERE tt.projectId = :projectId
+              AND tt.syncVersion >= :since AND tt.syncVersion <= :until
+              AND (tt.syncVersion > :since OR tt.taskId > :afterTaskId)
+            ORDER BY tt.syncVersion, tt.taskId
+            """)
+    List<TaskTombstone> findByProjectIdChangedAfter(
+            @Param("projectId") Long projectId,
+            @Param("since") long since,
+            @Param("afterTaskId") long afterTaskId,
+            @Param("until") long until,
+            Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TaskTombstone tt WHERE tt.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Remove até {@code limit} registros anteriores a {@code before}; usado pelo
+     * expurgo em lotes.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM task_tombstones
+            WHERE id IN (SELECT id FROM task_tombstones WHERE deleted_at < :before LIMIT :limit)
+            """, nativeQuery = true)
+    int deleteChunkDeletedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
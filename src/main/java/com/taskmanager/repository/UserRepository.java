@@ -1,15 +1,88 @@
 package com.taskmanager.repository;
 
+import com.taskmanager.dto.response.UserResponse;
 import com.taskmanager.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    /**
+     * Tamanho de cada lote trazido do cursor do banco em {@link #streamAllResponses()}.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * Primeira página da listagem por id; as seguintes vêm de
+     * {@link #findResponsesAfter}, com o predicado de keyset sempre presente.
+     */
+    @Query("""
+            SELECT new com.taskmanager.dto.response.UserResponse(u.id, u.name, u.email, u.createdAt)
+            FROM User u
+            ORDER BY u.id
+            """)
+    List<UserResponse> findFirstResponses(Limit limit);
+
+    @Query("""
+            SELECT new com.taskmanager.dto.response.UserResponse(u.id, u.name, u.email, u.createdAt)
+            FROM User u
+            WHERE u.id > :afterId
+            ORDER BY u.id
+            """)
+    List<UserResponse> findResponsesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Todos os usuários em ordem de id, lidos por um cursor no servidor em lotes de
+     * {@link #STREAM_FETCH_SIZE}. Deve ser consumido e fechado dentro de uma transação.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.taskmanager.dto.response.UserResponse(u.id, u.name, u.email, u.createdAt) FROM User u ORDER BY u.id")
+    Stream<UserResponse> streamAllResponses();
+
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+    int updatePassword(@Param("email") String email, @Param("password") String password);
+
+    @Modifying
+    @Query("UPDATE User u SET u.deletedAt = :deletedAt, u.updatedAt = :deletedAt WHERE u.id = :id AND u.deletedAt IS NULL")
+    int softDeleteById(@Param("id") Long id, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Usuários excluídos cujos projetos já foram expurgados.
+     */
+    @Query(value = """
+            SELECT u.id FROM users u
+            WHERE u.deleted_at IS NOT NULL
+              AND NOT EXISTS (SELECT 1 FROM projects p WHERE p.owner_id = u.id)
+            ORDER BY u.deleted_at
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findPurgeableIds(@Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM users WHERE id = :id AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeById(@Param("id") Long id);
 }
@@ -0,0 +1,23 @@
+package com.taskmanager.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Resumo barato do estado de uma lista, usado como ETag. O contador é avançado
+ * pela transação que escreve, sob o bloqueio da linha pai, então muda na ordem
+ * dos commits: uma ETag lida nunca se repete depois de um commit que alterou a
+ * lista. Um único recurso usa {@link ResourceVersion}.
+ *
+ * @param rowsVersion     contador de escritas nas linhas da lista
+ * @param parentUpdatedAt última alteração do registro pai, cujos dados vão na resposta
+ */
+public record VersionStamp(long rowsVersion, LocalDateTime parentUpdatedAt) {
+
+    public String toETag() {
+        String raw = rowsVersion + "|" + Objects.toString(parentUpdatedAt, "");
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,89 @@
+package com.taskmanager.security;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt com custo definido por deployment. O custo fica gravado no próprio hash
+ * ({@code $2a$NN$...}), então hashes com custo diferente do alvo, mais fracos ou
+ * mais caros, são marcados para recálculo no próximo login.
+ */
+@Slf4j
+public class CalibratedPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[abxy]?\\$(\\d\\d)\\$[./A-Za-z0-9]{53}$");
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    private final BCryptPasswordEncoder delegate;
+
+    @Getter
+    private final int strength;
+
+    public CalibratedPasswordEncoder(int strength) {
+        this.strength = strength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * Escolhe o maior custo entre {@code minStrength} e {@code maxStrength} cujo hash,
+     * medido nesta máquina, cabe em {@code targetLatency}.
+     */
+    public static CalibratedPasswordEncoder calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        int strength = minStrength;
+        long elapsed = measure(strength);
+
+        while (strength < maxStrength && elapsed * 2 <= targetLatency.toNanos()) {
+            strength++;
+            elapsed = measure(strength);
+        }
+
+        if (elapsed > targetLatency.toNanos() && strength > minStrength) {
+            strength--;
+        }
+
+        log.info("Custo do BCrypt calibrado em {} (alvo de {} ms por hash)", strength, targetLatency.toMillis());
+        return new CalibratedPasswordEncoder(strength);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return true;
+        }
+        return Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode("calibration-warmup");
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration-sample");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -1,13 +1,17 @@
 package com.taskmanager.security;
 
+import com.taskmanager.entity.User;
 import com.taskmanager.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,6 +19,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collection;
 
 @Component
 @RequiredArgsConstructor
@@ -22,6 +27,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+
+    @Value("${jwt.stateless-authentication:false}")
+    private boolean statelessAuthentication;
 
     @Override
     protected void doFilterInternal(
@@ -38,33 +47,62 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String jwt = authHeader.substring(7);
-        final String userEmail;
+        final VerifiedToken token;
 
         try {
-            userEmail = jwtService.extractUsername(jwt);
+            token = jwtService.verify(jwt);
         } catch (Exception e) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userRepository.findByEmail(userEmail).orElse(null);
-
-            if (userDetails != null && jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
+        final String userEmail = token.getSubject();
 
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
+        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (statelessAuthentication && token.hasPrincipalClaims()) {
+                authenticate(request, principalFromClaims(token), authoritiesFromClaims(token));
+            } else {
+                UserDetails userDetails = principalCache.get(userEmail, userRepository::findByEmail).orElse(null);
 
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+                if (userDetails != null && token.isIssuedFor(userDetails.getUsername())) {
+                    authenticate(request, userDetails, userDetails.getAuthorities());
+                }
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private void authenticate(
+            HttpServletRequest request,
+            UserDetails userDetails,
+            Collection<? extends GrantedAuthority> authorities
+    ) {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                authorities
+        );
+
+        authToken.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
+
+    private User principalFromClaims(VerifiedToken token) {
+        return User.builder()
+                .id(token.getUserId())
+                .name(token.getName())
+                .email(token.getSubject())
+                .build();
+    }
+
+    private Collection<? extends GrantedAuthority> authoritiesFromClaims(VerifiedToken token) {
+        return token.getAuthorities()
+                .stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+    }
 }
@@ -0,0 +1,39 @@
+package com.taskmanager.security;
+
+import com.taskmanager.entity.User;
+import com.taskmanager.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Regrava o hash da senha após um login bem-sucedido quando o custo armazenado
+ * difere do custo calibrado para este deployment.
+ */
+@Service
+@RequiredArgsConstructor
+public class PasswordUpgradeService implements UserDetailsPasswordService {
+
+    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        principalCache.evict(user.getUsername());
+
+        if (user instanceof User entity) {
+            return User.builder()
+                    .id(entity.getId())
+                    .name(entity.getName())
+                    .email(entity.getEmail())
+                    .password(newPassword)
+                    .createdAt(entity.getCreatedAt())
+                    .build();
+        }
+        return user;
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskmanager.security;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.List;
+
+@Value
+public class VerifiedToken {
+
+    String subject;
+    Instant issuedAt;
+    Instant expiration;
+    Long userId;
+    String name;
+    List<String> authorities;
+
+    public boolean isIssuedFor(String username) {
+        return subject != null && subject.equals(username);
+    }
+
+    public boolean hasPrincipalClaims() {
+        return userId != null && name != null && authorities != null;
+    }
+}
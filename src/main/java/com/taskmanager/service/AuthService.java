@@ -8,9 +8,12 @@ import com.taskmanager.exception.BusinessException;
 import com.taskmanager.mapper.UserMapper;
 import com.taskmanager.repository.UserRepository;
 import com.taskmanager.security.JwtService;
+import com.taskmanager.security.VerifiedToken;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +27,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final UserSuggestionIndex userSuggestionIndex;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -35,6 +39,7 @@ public class AuthService {
         user.setPassword(passwordEncoder.encode(request.getPassword()));
 
         userRepository.save(user);
+        userSuggestionIndex.put(user);
 
         String accessToken = jwtService.generateToken(user);
         String refreshToken = jwtService.generateRefreshToken(user);
@@ -47,15 +52,14 @@ public class AuthService {
     }
 
     public AuthResponse login(LoginRequest request) {
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail(),
                         request.getPassword()
                 )
         );
 
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new BusinessException("Usuário não encontrado"));
+        User user = (User) authentication.getPrincipal();
 
         String accessToken = jwtService.generateToken(user);
         String refreshToken = jwtService.generateRefreshToken(user);
@@ -68,12 +72,17 @@ public class AuthService {
     }
 
     public AuthResponse refreshToken(String refreshToken) {
-        String userEmail = jwtService.extractUsername(refreshToken);
+        VerifiedToken token;
+        try {
+            token = jwtService.verify(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessException("Refresh token inválido");
+        }
 
-        User user = userRepository.findByEmail(userEmail)
+        User user = userRepository.findByEmail(token.getSubject())
                 .orElseThrow(() -> new BusinessException("Usuário não encontrado"));
 
-        if (!jwtService.isTokenValid(refreshToken, user)) {
+        if (!token.isIssuedFor(user.getUsername())) {
             throw new BusinessException("Refresh token inválido");
         }
 
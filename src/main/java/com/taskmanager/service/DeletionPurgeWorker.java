@@ -0,0 +1,130 @@
+package com.taskmanager.service;
+
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskTombstoneRepository;
+import com.taskmanager.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Remove definitivamente projetos e usuários marcados como excluídos e os
+ * registros de tarefas excluídas que passaram da retenção da sincronização. As
+ * tarefas são apagadas (ou desatribuídas) em lotes de {@code chunk-size}, cada um
+ * na sua própria transação e com uma pausa entre eles, para não segurar locks por
+ * muito tempo nem saturar o banco.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "deletion.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class DeletionPurgeWorker {
+
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final int batchSize;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Duration tombstoneRetention;
+
+    public DeletionPurgeWorker(
+            ProjectRepository projectRepository,
+            UserRepository userRepository,
+            TaskRepository taskRepository,
+            TaskTombstoneRepository taskTombstoneRepository,
+            @Value("${deletion.purge.batch-size:10}") int batchSize,
+            @Value("${deletion.purge.chunk-size:1000}") int chunkSize,
+            @Value("${deletion.purge.pause:100ms}") Duration pause,
+            @Value("${task.sync.tombstone-retention:P30D}") Duration tombstoneRetention
+    ) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @Scheduled(fixedDelayString = "${deletion.purge.interval:PT1M}")
+    public void purge() {
+        for (Long projectId : projectRepository.findDeletedIds(batchSize)) {
+            if (!purgeProject(projectId)) {
+                return;
+            }
+        }
+        for (Long userId : userRepository.findPurgeableIds(batchSize)) {
+            if (!purgeUser(userId)) {
+                return;
+            }
+        }
+        purgeExpiredTombstones();
+    }
+
+    boolean purgeProject(Long projectId) {
+        int removed = 0;
+        int chunk;
+        do {
+            chunk = taskRepository.deleteChunkByProjectId(projectId, chunkSize);
+            removed += chunk;
+            if (chunk == chunkSize && !pause()) {
+                return false;
+            }
+        } while (chunk == chunkSize);
+
+        taskTombstoneRepository.deleteByProjectId(projectId);
+        projectRepository.purgeById(projectId);
+        log.info("Projeto {} expurgado ({} tarefas removidas)", projectId, removed);
+        return true;
+    }
+
+    boolean purgeUser(Long userId) {
+        int chunk;
+        do {
+            chunk = taskRepository.unassignChunkByUserId(userId, chunkSize, LocalDateTime.now());
+            if (chunk == chunkSize && !pause()) {
+                return false;
+            }
+        } while (chunk == chunkSize);
+
+        userRepository.purgeById(userId);
+        log.info("Usuário {} expurgado", userId);
+        return true;
+    }
+
+    /**
+     * Remove registros de exclusão mais antigos que a retenção; tokens de
+     * sincronização anteriores a ela são recusados com 410.
+     */
+    void purgeExpiredTombstones() {
+        LocalDateTime before = LocalDateTime.now().minus(tombstoneRetention);
+        int chunk;
+        do {
+            chunk = taskTombstoneRepository.deleteChunkDeletedBefore(before, chunkSize);
+            if (chunk == chunkSize && !pause()) {
+                return;
+            }
+        } while (chunk == chunkSize);
+    }
+
+    private boolean pause() {
+        if (pause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
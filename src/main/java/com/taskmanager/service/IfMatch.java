@@ -0,0 +1,29 @@
+package com.taskmanager.service;
+
+import com.taskmanager.exception.PreconditionFailedException;
+
+/**
+ * Avalia o cabeçalho If-Match com comparação forte: ETags fracas ({@code W/"..."})
+ * nunca casam, e {@code *} casa com qualquer versão do recurso existente.
+ */
+final class IfMatch {
+
+    private IfMatch() {
+    }
+
+    /**
+     * Sem cabeçalho a atualização segue; com cabeçalho, precisa conter a ETag atual.
+     */
+    static void check(String ifMatch, String currentETag) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return;
+        }
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(currentETag)) {
+                return;
+            }
+        }
+        throw new PreconditionFailedException("O recurso foi alterado desde a versão informada em If-Match");
+    }
+}
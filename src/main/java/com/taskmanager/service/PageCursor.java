@@ -0,0 +1,89 @@
+package com.taskmanager.service;
+
+import com.taskmanager.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cursor opaco para paginação por chave (keyset): guarda os valores da ordenação
+ * do último item entregue, codificados em Base64 URL-safe.
+ */
+public final class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String[] values;
+
+    private PageCursor(String[] values) {
+        this.values = values;
+    }
+
+    public static String encode(Object... values) {
+        String raw = Arrays.stream(values)
+                .map(value -> Objects.toString(value, ""))
+                .collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String cursor, int size) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = raw.split("\\|", -1);
+            if (values.length != size) {
+                throw invalid();
+            }
+            return new PageCursor(values);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    /**
+     * Garante que o cursor foi emitido para a mesma consulta (por exemplo, com a
+     * mesma ordenação) antes de usar os demais valores.
+     */
+    public PageCursor expect(int index, String value) {
+        if (!values[index].equals(value)) {
+            throw invalid();
+        }
+        return this;
+    }
+
+    public Long getLong(int index) {
+        return parse(index, Long::valueOf);
+    }
+
+    public LocalDateTime getDateTime(int index) {
+        return parse(index, LocalDateTime::parse);
+    }
+
+    public LocalDate getDate(int index) {
+        return parse(index, LocalDate::parse);
+    }
+
+    private <T> T parse(int index, Function<String, T> parser) {
+        String value = values[index];
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw invalid();
+        }
+    }
+
+    private static BusinessException invalid() {
+        return new BusinessException("Cursor de paginação inválido");
+    }
+}
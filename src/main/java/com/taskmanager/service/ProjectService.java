@@ -1,18 +1,24 @@
 package com.taskmanager.service;
 
+import com.taskmanager.dto.request.ProjectPatchRequest;
 import com.taskmanager.dto.request.ProjectRequest;
 import com.taskmanager.dto.response.ProjectResponse;
 import com.taskmanager.entity.Project;
 import com.taskmanager.entity.User;
+import com.taskmanager.exception.BusinessException;
 import com.taskmanager.exception.ResourceNotFoundException;
 import com.taskmanager.exception.UnauthorizedException;
 import com.taskmanager.mapper.ProjectMapper;
 import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.ResourceVersion;
+import com.taskmanager.repository.VersionStamp;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -27,49 +33,117 @@ public class ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException("Projeto", id));
     }
 
+    /**
+     * Busca o projeto já filtrando pelo dono em uma única consulta. Só quando nada
+     * é encontrado verifica se o projeto existe, para diferenciar 404 de 403.
+     */
+    public Project findOwnedById(Long id, User user) {
+        return projectRepository.findByIdAndOwnerId(id, user.getId())
+                .orElseThrow(() -> accessFailure(id));
+    }
+
+    @Transactional(readOnly = true)
     public ProjectResponse findByIdResponse(Long id, User currentUser) {
-        Project project = findById(id);
-        validateOwnership(project, currentUser);
-        return projectMapper.toResponse(project);
+        return projectMapper.toResponse(findOwnedById(id, currentUser));
     }
 
+    @Transactional(readOnly = true)
     public List<ProjectResponse> findAllByOwner(User owner) {
-        return projectRepository.findByOwnerId(owner.getId())
-                .stream()
-                .map(projectMapper::toResponse)
-                .toList();
+        return projectRepository.findResponsesByOwnerId(owner.getId());
+    }
+
+    /**
+     * ETag do projeto, calculada sem carregar a entidade. Vazio quando o projeto
+     * não é acessível; o caminho normal então responde com 403 ou 404.
+     */
+    public Optional<String> findETag(Long id, User currentUser) {
+        return projectRepository.findVersionByIdAndOwnerId(id, currentUser.getId())
+                .map(ResourceVersion::toETag);
+    }
+
+    /**
+     * ETag da listagem de projetos do dono; toda escrita em projeto avança o
+     * contador do dono na mesma transação.
+     */
+    public Optional<String> findAllETag(User owner) {
+        return projectRepository.findVersionByOwnerId(owner.getId())
+                .map(VersionStamp::toETag);
     }
 
     @Transactional
     public ProjectResponse create(ProjectRequest request, User owner) {
         Project project = projectMapper.toEntity(request, owner);
+        projectRepository.incrementProjectsVersion(owner.getId());
         return projectMapper.toResponse(projectRepository.save(project));
     }
 
+    /**
+     * Atualiza o projeto se {@code ifMatch}, quando informado, contiver a ETag atual.
+     * A versão lida aqui é conferida de novo no UPDATE, então uma alteração
+     * concorrente entre a leitura e a escrita também resulta em 412.
+     */
     @Transactional
-    public ProjectResponse update(Long id, ProjectRequest request, User currentUser) {
-        Project project = findById(id);
-        validateOwnership(project, currentUser);
+    public Versioned<ProjectResponse> update(Long id, ProjectRequest request, String ifMatch, User currentUser) {
+        Project project = findOwnedById(id, currentUser);
+        IfMatch.check(ifMatch, eTag(project));
 
         projectMapper.updateEntity(project, request);
-        return projectMapper.toResponse(projectRepository.save(project));
+        projectRepository.incrementProjectsVersion(currentUser.getId());
+        Project saved = projectRepository.saveAndFlush(project);
+        return new Versioned<>(projectMapper.toResponse(saved), eTag(saved));
     }
 
+    /**
+     * Aplica um JSON Merge Patch: só os campos presentes no documento são
+     * alterados, e o UPDATE ({@code @DynamicUpdate}) leva apenas as colunas que
+     * de fato mudaram.
+     */
     @Transactional
-    public void delete(Long id, User currentUser) {
-        Project project = findById(id);
-        validateOwnership(project, currentUser);
+    public Versioned<ProjectResponse> patch(Long id, ProjectPatchRequest patch, String ifMatch, User currentUser) {
+        Project project = findOwnedById(id, currentUser);
+        IfMatch.check(ifMatch, eTag(project));
+
+        if (patch.hasName()) {
+            if (patch.getName() == null || patch.getName().isBlank()) {
+                throw new BusinessException("Nome do projeto é obrigatório");
+            }
+            project.setName(patch.getName());
+        }
+        if (patch.hasDescription()) {
+            project.setDescription(patch.getDescription());
+        }
 
-        projectRepository.delete(project);
+        projectRepository.incrementProjectsVersion(currentUser.getId());
+        Project saved = projectRepository.saveAndFlush(project);
+        return new Versioned<>(projectMapper.toResponse(saved), eTag(saved));
     }
 
-    public void validateOwnership(Project project, User user) {
-        if (!project.getOwner().getId().equals(user.getId())) {
-            throw new UnauthorizedException("Você não tem permissão para acessar este projeto");
+    @Transactional
+    public void delete(Long id, User currentUser) {
+        projectRepository.incrementProjectsVersion(currentUser.getId());
+        if (projectRepository.softDeleteByIdAndOwnerId(id, currentUser.getId(), LocalDateTime.now()) == 0) {
+            throw accessFailure(id);
+        }
+    }
+
+    public void validateOwnership(Long projectId, User user) {
+        if (!projectRepository.existsByIdAndOwnerId(projectId, user.getId())) {
+            throw accessFailure(projectId);
         }
     }
 
     public boolean isOwner(Long projectId, Long userId) {
         return projectRepository.existsByIdAndOwnerId(projectId, userId);
     }
+
+    private static String eTag(Project project) {
+        return new ResourceVersion(project.getVersion(), project.getOwner().getUpdatedAt()).toETag();
+    }
+
+    private RuntimeException accessFailure(Long id) {
+        if (projectRepository.existsById(id)) {
+            return new UnauthorizedException("Você não tem permissão para acessar este projeto");
+        }
+        return new ResourceNotFoundException("Projeto", id);
+    }
 }
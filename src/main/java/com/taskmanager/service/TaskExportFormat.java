@@ -0,0 +1,27 @@
+package com.taskmanager.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Formatos aceitos na exportação de tarefas.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskExportFormat {
+
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv;charset=UTF-8");
+
+    private final String param;
+    private final String contentType;
+
+    public static Optional<TaskExportFormat> fromParam(String param) {
+        return Arrays.stream(values())
+                .filter(format -> format.param.equalsIgnoreCase(param))
+                .findFirst();
+    }
+}
@@ -0,0 +1,116 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskmanager.dto.response.TaskResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Escreve tarefas, uma por linha, no formato de exportação escolhido, com
+ * compressão gzip opcional. Não guarda linhas: cada chamada a {@link #write} vai
+ * direto para o buffer de saída.
+ */
+public abstract class TaskExportWriter {
+
+    static final String[] CSV_HEADER = {
+            "id", "title", "description", "status", "deadline",
+            "projectId", "projectName", "assignedUserId", "assignedUserName", "createdAt"
+    };
+
+    private static final int BUFFER_SIZE = 8192;
+
+    protected final Writer out;
+    private final GZIPOutputStream gzip;
+
+    private TaskExportWriter(OutputStream outputStream, boolean compress) throws IOException {
+        this.gzip = compress ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : null;
+        this.out = new BufferedWriter(
+                new OutputStreamWriter(compress ? gzip : outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    public static TaskExportWriter open(
+            TaskExportFormat format, OutputStream outputStream, boolean compress, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new Ndjson(outputStream, compress, objectMapper);
+            case CSV -> new Csv(outputStream, compress);
+        };
+    }
+
+    public abstract void write(TaskResponse task) throws IOException;
+
+    /**
+     * Esvazia os buffers e fecha o gzip, sem fechar o {@link OutputStream} de destino.
+     */
+    public void finish() throws IOException {
+        out.flush();
+        if (gzip != null) {
+            gzip.finish();
+        }
+    }
+
+    private static final class Ndjson extends TaskExportWriter {
+
+        private final ObjectWriter writer;
+
+        Ndjson(OutputStream outputStream, boolean compress, ObjectMapper objectMapper) throws IOException {
+            super(outputStream, compress);
+            this.writer = objectMapper.writerFor(TaskResponse.class);
+        }
+
+        @Override
+        public void write(TaskResponse task) throws IOException {
+            out.write(writer.writeValueAsString(task));
+            out.write('\n');
+        }
+    }
+
+    /**
+     * CSV no formato da RFC 4180: separador vírgula, quebra de linha CRLF e aspas
+     * duplas em volta dos campos com vírgula, aspas ou quebra de linha.
+     */
+    private static final class Csv extends TaskExportWriter {
+
+        Csv(OutputStream outputStream, boolean compress) throws IOException {
+            super(outputStream, compress);
+            writeRow((Object[]) CSV_HEADER);
+        }
+
+        @Override
+        public void write(TaskResponse task) throws IOException {
+            writeRow(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getDeadline(),
+                    task.getProjectId(), task.getProjectName(), task.getAssignedUserId(), task.getAssignedUserName(),
+                    task.getCreatedAt());
+        }
+
+        private void writeRow(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeField(Objects.toString(values[i], ""));
+            }
+            out.write("\r\n");
+        }
+
+        private void writeField(String value) throws IOException {
+            boolean quoted = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quoted) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            out.write(value.replace("\"", "\"\""));
+            out.write('"');
+        }
+    }
+}
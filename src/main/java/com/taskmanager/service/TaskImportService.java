@@ -0,0 +1,308 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.response.TaskImportResponse;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.entity.User;
+import com.taskmanager.exception.BusinessException;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskImportRepository;
+import com.taskmanager.repository.TaskImportRow;
+import com.taskmanager.repository.TaskImportSink;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Importação de tarefas a partir de um CSV lido em streaming. As linhas são
+ * validadas à medida que chegam e gravadas em blocos; linhas inválidas entram no
+ * relatório de erros e não interrompem a importação. Cada bloco é confirmado na
+ * própria transação, para que uma importação grande não segure o bloqueio do
+ * projeto nem uma conexão até o fim. Uma falha de leitura ou de gravação desfaz
+ * só o bloco em andamento: se algum bloco já foi confirmado, o relatório sai com
+ * {@code completed = false} e a linha a partir da qual reenviar o arquivo.
+ *
+ * <p>O CSV precisa de cabeçalho com a coluna {@code title}; {@code description},
+ * {@code status}, {@code deadline} e {@code assignedUserId} são opcionais e demais
+ * colunas são ignoradas, o que permite reimportar um arquivo da exportação.
+ * Prazos passados são aceitos, já que a importação costuma trazer histórico.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskImportService {
+
+    public static final int CHUNK_SIZE = 2000;
+    public static final int CHUNK_MAX_CHARS = 4 * 1024 * 1024;
+    public static final int MAX_REPORTED_ERRORS = 1000;
+    public static final int MAX_TITLE_LENGTH = 255;
+
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String STATUS = "status";
+    private static final String DEADLINE = "deadline";
+    private static final String ASSIGNED_USER_ID = "assignedUserId";
+
+    private final TaskImportRepository taskImportRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectService projectService;
+    private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskImportResponse importCsv(Long projectId, InputStream body, User currentUser) {
+        projectService.validateOwnership(projectId, currentUser);
+
+        long start = System.nanoTime();
+        Import state = new Import(projectId);
+        CsvReader reader = new CsvReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        try {
+            Map<String, Integer> columns = readHeader(reader);
+
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                state.accept(reader.getRecordLine(), record, columns);
+            }
+            state.flush();
+        } catch (IOException e) {
+            state.interrupt(reader, new UncheckedIOException("Falha ao ler o CSV de importação", e));
+        } catch (RuntimeException e) {
+            state.interrupt(reader, e);
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+        long rowsPerSecond = state.imported * 1_000_000_000L / elapsedNanos;
+        log.info("Importação no projeto {}: {} tarefas, {} rejeitadas, {} linhas/s",
+                projectId, state.imported, state.rejected, rowsPerSecond);
+
+        return TaskImportResponse.builder()
+                .imported(state.imported)
+                .rejected(state.rejected)
+                .completed(state.failure == null)
+                .failure(state.failure)
+                .resumeFromLine(state.failure != null ? state.pendingFromLine : null)
+                .durationMillis(elapsedNanos / 1_000_000)
+                .rowsPerSecond(rowsPerSecond)
+                .errors(state.errors)
+                .errorsTruncated(state.rejected > state.errors.size())
+                .build();
+    }
+
+    private Map<String, Integer> readHeader(CsvReader reader) throws IOException {
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            throw new BusinessException("CSV vazio: o cabeçalho é obrigatório");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).strip(), i);
+        }
+        if (!columns.containsKey(TITLE)) {
+            throw new BusinessException("CSV sem a coluna obrigatória 'title'");
+        }
+        return columns;
+    }
+
+    /**
+     * Estado de uma importação: o bloco em montagem, os responsáveis já
+     * conferidos, o relatório de rejeições e o progresso já confirmado.
+     */
+    private final class Import {
+
+        private final Long projectId;
+        private final List<TaskImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<Long> chunkLines = new ArrayList<>(CHUNK_SIZE);
+        private final Set<Long> knownUserIds = new HashSet<>();
+        private final Set<Long> missingUserIds = new HashSet<>();
+        private final List<TaskImportResponse.RowError> errors = new ArrayList<>();
+        private long rejected;
+        private long imported;
+        private int chunkChars;
+        // primeira linha ainda não coberta por um bloco confirmado
+        private Long pendingFromLine;
+        private String failure;
+
+        Import(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        void accept(long line, List<String> record, Map<String, Integer> columns) {
+            if (pendingFromLine == null) {
+                pendingFromLine = line;
+            }
+            TaskImportRow row;
+            try {
+                row = parse(record, columns);
+            } catch (BusinessException e) {
+                reject(line, e.getMessage());
+                return;
+            }
+
+            chunk.add(row);
+            chunkLines.add(line);
+            chunkChars += row.title().length() + (row.description() != null ? row.description().length() : 0);
+            if (chunk.size() >= CHUNK_SIZE || chunkChars >= CHUNK_MAX_CHARS) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            resolveAssignees();
+
+            List<TaskImportRow> accepted = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                Long assignedUserId = chunk.get(i).assignedUserId();
+                if (assignedUserId != null && missingUserIds.contains(assignedUserId)) {
+                    reject(chunkLines.get(i), "Usuário não encontrado com id: " + assignedUserId);
+                } else {
+                    accepted.add(chunk.get(i));
+                }
+            }
+            if (!accepted.isEmpty()) {
+                imported += transactionTemplate.execute(status -> write(accepted));
+            }
+            pendingFromLine = null;
+
+            chunk.clear();
+            chunkLines.clear();
+            chunkChars = 0;
+        }
+
+        /**
+         * Encerra a importação após uma falha. Sem nenhum bloco confirmado a falha
+         * segue adiante, como se a importação não tivesse começado; senão vira o
+         * motivo da interrupção no relatório.
+         */
+        void interrupt(CsvReader reader, RuntimeException e) {
+            if (imported == 0) {
+                throw e;
+            }
+            if (pendingFromLine == null) {
+                pendingFromLine = reader.getRecordLine();
+            }
+            log.warn("Importação no projeto {} interrompida na linha {} após {} tarefas",
+                    projectId, pendingFromLine, imported, e);
+            failure = e instanceof BusinessException || e instanceof UncheckedIOException
+                    ? e.getMessage()
+                    : "Falha ao gravar as tarefas";
+        }
+
+        private long write(List<TaskImportRow> rows) {
+            TaskImportSink sink = taskImportRepository.open(projectId);
+            try {
+                sink.write(rows, projectRepository.nextTasksVersion(projectId));
+                return sink.finish();
+            } catch (RuntimeException e) {
+                sink.abort();
+                throw e;
+            }
+        }
+
+        private void resolveAssignees() {
+            Set<Long> unknown = new HashSet<>();
+            for (TaskImportRow row : chunk) {
+                Long id = row.assignedUserId();
+                if (id != null && !knownUserIds.contains(id) && !missingUserIds.contains(id)) {
+                    unknown.add(id);
+                }
+            }
+            if (unknown.isEmpty()) {
+                return;
+            }
+
+            Set<Long> existing = new HashSet<>(userService.findExistingIds(unknown));
+            for (Long id : unknown) {
+                (existing.contains(id) ? knownUserIds : missingUserIds).add(id);
+            }
+        }
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new TaskImportResponse.RowError(line, message));
+            }
+        }
+    }
+
+    private static TaskImportRow parse(List<String> record, Map<String, Integer> columns) {
+        String title = value(record, columns, TITLE);
+        if (title == null) {
+            throw new BusinessException("Título da tarefa é obrigatório");
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            throw new BusinessException("Título da tarefa pode ter no máximo " + MAX_TITLE_LENGTH + " caracteres");
+        }
+
+        String description = value(record, columns, DESCRIPTION);
+        if (title.indexOf('\0') >= 0 || (description != null && description.indexOf('\0') >= 0)) {
+            throw new BusinessException("Texto com caractere nulo não é permitido");
+        }
+
+        return new TaskImportRow(
+                title,
+                description,
+                parseStatus(value(record, columns, STATUS)),
+                parseDeadline(value(record, columns, DEADLINE)),
+                parseUserId(value(record, columns, ASSIGNED_USER_ID)));
+    }
+
+    private static String value(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static TaskStatus parseStatus(String value) {
+        if (value == null) {
+            return TaskStatus.TODO;
+        }
+        try {
+            return TaskStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Status inválido: " + value);
+        }
+    }
+
+    private static LocalDate parseDeadline(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException("Prazo inválido (use AAAA-MM-DD): " + value);
+        }
+    }
+
+    private static Long parseUserId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("ID de usuário inválido: " + value);
+        }
+    }
+}
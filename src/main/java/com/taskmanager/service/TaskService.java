@@ -1,8 +1,19 @@
 package com.taskmanager.service;
 
+import com.taskmanager.dto.request.AssignedTaskFilterRequest;
+import com.taskmanager.dto.request.TaskBulkReassignRequest;
+import com.taskmanager.dto.request.TaskBulkStatusRequest;
+import com.taskmanager.dto.request.TaskFilterRequest;
+import com.taskmanager.dto.request.TaskPatchRequest;
 import com.taskmanager.dto.request.TaskRequest;
+import com.taskmanager.dto.request.TaskSelectionRequest;
 import com.taskmanager.dto.request.TaskStatusRequest;
+import com.taskmanager.dto.response.BulkUpdateResponse;
+import com.taskmanager.dto.response.CursorPageResponse;
+import com.taskmanager.dto.response.ErrorResponse;
+import com.taskmanager.dto.response.TaskBatchResponse;
 import com.taskmanager.dto.response.TaskResponse;
+import com.taskmanager.dto.response.TaskSearchResponse;
 import com.taskmanager.entity.Project;
 import com.taskmanager.entity.Task;
 import com.taskmanager.entity.TaskStatus;
@@ -11,48 +22,164 @@ import com.taskmanager.exception.BusinessException;
 import com.taskmanager.exception.ResourceNotFoundException;
 import com.taskmanager.exception.UnauthorizedException;
 import com.taskmanager.mapper.TaskMapper;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.ResourceVersion;
+import com.taskmanager.repository.TaskFilter;
 import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskSearchRepository;
+import com.taskmanager.repository.TaskTombstoneRepository;
+import com.taskmanager.repository.VersionStamp;
+import com.taskmanager.repository.TaskSort;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int MAX_BATCH_SIZE = 1000;
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
+    public static final int MAX_SEARCH_LIMIT = 100;
+    public static final int MAX_SEARCH_QUERY_LENGTH = 200;
+
     private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskSearchRepository taskSearchRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
     private final TaskMapper taskMapper;
     private final ProjectService projectService;
     private final UserService userService;
+    private final Validator validator;
 
     public Task findById(Long id) {
         return taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tarefa", id));
     }
 
-    public TaskResponse findByIdResponse(Long id, User currentUser) {
-        Task task = findById(id);
-        validateTaskAccess(task, currentUser);
-        return taskMapper.toResponse(task);
+    public Task findOwnedById(Long id, User user) {
+        return taskRepository.findByIdAndProjectOwnerId(id, user.getId())
+                .orElseThrow(() -> accessFailure(id));
+    }
+
+    /**
+     * Tarefa com a ETag da versão lida; a mesma consulta que traz a tarefa traz o
+     * que a ETag precisa, então não há consulta separada de versão.
+     */
+    @Transactional(readOnly = true)
+    public Versioned<TaskResponse> findByIdResponse(Long id, User currentUser) {
+        return versioned(findOwnedById(id, currentUser));
     }
 
-    public List<TaskResponse> findAllByProject(Long projectId, User currentUser) {
-        Project project = projectService.findById(projectId);
-        projectService.validateOwnership(project, currentUser);
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> findAllByProject(
+            Long projectId, TaskFilterRequest filterRequest, String cursor, int limit, User currentUser) {
+        projectService.validateOwnership(projectId, currentUser);
 
-        return taskRepository.findByProjectId(projectId)
-                .stream()
-                .map(taskMapper::toResponse)
-                .toList();
+        TaskSort sort = parseSort(filterRequest.getSort(), TaskSort.CREATED_AT_ASC);
+        validateDeadlineRange(filterRequest.getDeadlineFrom(), filterRequest.getDeadlineTo());
+
+        TaskFilter filter = TaskFilter.builder()
+                .projectId(projectId)
+                .status(filterRequest.getStatus())
+                .assignedUserId(filterRequest.getAssignedUserId())
+                .deadlineFrom(filterRequest.getDeadlineFrom())
+                .deadlineTo(filterRequest.getDeadlineTo())
+                .build();
+
+        return findPage(filter, sort, cursor, limit);
+    }
+
+    /**
+     * ETag da listagem de tarefas do projeto. Cobre todas as tarefas do projeto,
+     * independentemente de filtros e cursor: qualquer alteração invalida todas as
+     * páginas, o que nunca devolve 304 para dados desatualizados. Por isso toda
+     * escrita em tarefas avança o contador do projeto antes de gravar, na mesma
+     * transação, e grava o novo valor como {@code syncVersion} das tarefas.
+     */
+    public Optional<String> findETagByProject(Long projectId, User currentUser) {
+        return taskRepository.findVersionByProjectIdAndOwnerId(projectId, currentUser.getId())
+                .map(VersionStamp::toETag);
+    }
+
+    /**
+     * Tarefas atribuídas ao usuário em todos os projetos, por padrão ordenadas pelo
+     * prazo mais próximo.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> findAllAssignedTo(
+            User currentUser, AssignedTaskFilterRequest filterRequest, String cursor, int limit) {
+        TaskSort sort = parseSort(filterRequest.getSort(), TaskSort.DEADLINE_ASC);
+        validateDeadlineRange(filterRequest.getDeadlineFrom(), filterRequest.getDeadlineTo());
+
+        TaskFilter filter = TaskFilter.builder()
+                .assignedUserId(currentUser.getId())
+                .status(filterRequest.getStatus())
+                .deadlineFrom(filterRequest.getDeadlineFrom())
+                .deadlineTo(filterRequest.getDeadlineTo())
+                .build();
+
+        return findPage(filter, sort, cursor, limit);
+    }
+
+    private CursorPageResponse<TaskResponse> findPage(TaskFilter filter, TaskSort sort, String cursor, int limit) {
+        int pageSize = normalizePageSize(limit);
+
+        Object afterValue = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            PageCursor after = PageCursor.decode(cursor, 3).expect(0, sort.getParam());
+            afterValue = switch (sort) {
+                case CREATED_AT_ASC, CREATED_AT_DESC -> after.getDateTime(1);
+                case DEADLINE_ASC, DEADLINE_DESC -> after.getDate(1);
+            };
+            afterId = after.getLong(2);
+            if (afterId == null) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+        }
+
+        List<TaskResponse> tasks = taskRepository.findResponsePage(filter, sort, afterValue, afterId, pageSize + 1);
+
+        boolean hasNext = tasks.size() > pageSize;
+        List<TaskResponse> page = hasNext ? tasks.subList(0, pageSize) : tasks;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TaskResponse last = page.get(page.size() - 1);
+            Object lastValue = switch (sort) {
+                case CREATED_AT_ASC, CREATED_AT_DESC -> last.getCreatedAt();
+                case DEADLINE_ASC, DEADLINE_DESC -> last.getDeadline();
+            };
+            nextCursor = PageCursor.encode(sort.getParam(), lastValue, last.getId());
+        }
+
+        return CursorPageResponse.<TaskResponse>builder()
+                .items(page)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     @Transactional
     public TaskResponse create(Long projectId, TaskRequest request, User currentUser) {
-        Project project = projectService.findById(projectId);
-        projectService.validateOwnership(project, currentUser);
+        Project project = projectService.findOwnedById(projectId, currentUser);
 
         validateDeadline(request.getDeadline());
 
@@ -64,13 +191,80 @@ public class TaskService {
         Task task = taskMapper.toEntity(request, project, assignedUser);
         task.setStatus(TaskStatus.TODO);
 
+        task.setSyncVersion(projectRepository.nextTasksVersion(project.getId()));
         return taskMapper.toResponse(taskRepository.save(task));
     }
 
+    /**
+     * Cria várias tarefas no projeto. Todos os itens são validados antes de qualquer
+     * INSERT; os válidos são gravados em lotes JDBC e os inválidos voltam com seus
+     * erros, na mesma posição em que foram enviados.
+     */
+    @Transactional
+    public TaskBatchResponse createBatch(Long projectId, List<TaskRequest> requests, User currentUser) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BusinessException("Informe ao menos uma tarefa");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException("O lote pode ter no máximo " + MAX_BATCH_SIZE + " tarefas");
+        }
+
+        Project project = projectService.findOwnedById(projectId, currentUser);
+        Map<Long, User> assignees = findAssignees(requests);
+
+        TaskBatchResponse.Item[] items = new TaskBatchResponse.Item[requests.size()];
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> taskIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest request = requests.get(i);
+            List<ErrorResponse.FieldError> errors = validateBatchItem(request, assignees);
+            if (!errors.isEmpty()) {
+                items[i] = TaskBatchResponse.Item.builder()
+                        .index(i)
+                        .status(400)
+                        .errors(errors)
+                        .build();
+                continue;
+            }
+
+            User assignedUser = request.getAssignedUserId() != null
+                    ? assignees.get(request.getAssignedUserId())
+                    : null;
+            tasks.add(taskMapper.toEntity(request, project, assignedUser));
+            taskIndexes.add(i);
+        }
+
+        if (!tasks.isEmpty()) {
+            long syncVersion = projectRepository.nextTasksVersion(project.getId());
+            tasks.forEach(task -> task.setSyncVersion(syncVersion));
+        }
+        List<Task> saved = taskRepository.saveAll(tasks);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = taskIndexes.get(i);
+            items[index] = TaskBatchResponse.Item.builder()
+                    .index(index)
+                    .status(201)
+                    .task(taskMapper.toResponse(saved.get(i)))
+                    .build();
+        }
+
+        return TaskBatchResponse.builder()
+                .created(saved.size())
+                .failed(requests.size() - saved.size())
+                .items(Arrays.asList(items))
+                .build();
+    }
+
+    /**
+     * Atualiza a tarefa se {@code ifMatch}, quando informado, contiver a ETag atual.
+     * A versão lida aqui é conferida de novo no UPDATE, então uma alteração
+     * concorrente entre a leitura e a escrita também resulta em 412.
+     */
     @Transactional
-    public TaskResponse update(Long id, TaskRequest request, User currentUser) {
-        Task task = findById(id);
-        validateTaskAccess(task, currentUser);
+    public Versioned<TaskResponse> update(Long id, TaskRequest request, String ifMatch, User currentUser) {
+        Task task = findOwnedById(id, currentUser);
+        IfMatch.check(ifMatch, eTag(task));
 
         validateDeadline(request.getDeadline());
 
@@ -80,30 +274,229 @@ public class TaskService {
         }
 
         taskMapper.updateEntity(task, request, assignedUser);
-        return taskMapper.toResponse(taskRepository.save(task));
+        task.setSyncVersion(projectRepository.nextTasksVersion(task.getProject().getId()));
+        return versioned(taskRepository.saveAndFlush(task));
     }
 
+    /**
+     * Aplica um JSON Merge Patch: só os campos presentes no documento são
+     * alterados, e o UPDATE ({@code @DynamicUpdate}) leva apenas as colunas que
+     * de fato mudaram. O responsável só é buscado quando muda.
+     */
     @Transactional
-    public TaskResponse updateStatus(Long id, TaskStatusRequest request, User currentUser) {
-        Task task = findById(id);
-        validateTaskAccess(task, currentUser);
+    public Versioned<TaskResponse> patch(Long id, TaskPatchRequest patch, String ifMatch, User currentUser) {
+        Task task = findOwnedById(id, currentUser);
+        IfMatch.check(ifMatch, eTag(task));
 
-        task.setStatus(request.getStatus());
-        return taskMapper.toResponse(taskRepository.save(task));
+        if (patch.hasTitle()) {
+            if (patch.getTitle() == null || patch.getTitle().isBlank()) {
+                throw new BusinessException("Título da tarefa é obrigatório");
+            }
+            task.setTitle(patch.getTitle());
+        }
+        if (patch.hasDescription()) {
+            task.setDescription(patch.getDescription());
+        }
+        if (patch.hasStatus()) {
+            if (patch.getStatus() == null) {
+                throw new BusinessException("Status é obrigatório");
+            }
+            task.setStatus(patch.getStatus());
+        }
+        if (patch.hasDeadline() && !Objects.equals(patch.getDeadline(), task.getDeadline())) {
+            validateDeadline(patch.getDeadline());
+            task.setDeadline(patch.getDeadline());
+        }
+        if (patch.hasAssignedUserId()) {
+            Long currentAssigneeId = task.getAssignedUser() != null ? task.getAssignedUser().getId() : null;
+            if (!Objects.equals(patch.getAssignedUserId(), currentAssigneeId)) {
+                task.setAssignedUser(patch.getAssignedUserId() != null
+                        ? userService.findById(patch.getAssignedUserId())
+                        : null);
+            }
+        }
+
+        task.setSyncVersion(projectRepository.nextTasksVersion(task.getProject().getId()));
+        return versioned(taskRepository.saveAndFlush(task));
+    }
+
+    /**
+     * Sem If-Match o status é alterado em um único UPDATE já restrito ao dono; com
+     * If-Match a tarefa é lida para comparar a ETag antes da escrita.
+     */
+    @Transactional
+    public Versioned<TaskResponse> updateStatus(
+            Long id, TaskStatusRequest request, String ifMatch, User currentUser) {
+        if (ifMatch != null && !ifMatch.isBlank()) {
+            Task task = findOwnedById(id, currentUser);
+            IfMatch.check(ifMatch, eTag(task));
+            task.setStatus(request.getStatus());
+            task.setSyncVersion(projectRepository.nextTasksVersion(task.getProject().getId()));
+            return versioned(taskRepository.saveAndFlush(task));
+        }
+
+        projectRepository.incrementTasksVersionByTaskId(id, currentUser.getId());
+        int updated = taskRepository.updateStatusByIdAndOwnerId(
+                id, currentUser.getId(), request.getStatus(), LocalDateTime.now());
+        if (updated == 0) {
+            throw accessFailure(id);
+        }
+
+        return versioned(findById(id));
     }
 
     @Transactional
     public void delete(Long id, User currentUser) {
-        Task task = findById(id);
-        validateTaskAccess(task, currentUser);
+        projectRepository.incrementTasksVersionByTaskId(id, currentUser.getId());
+        // a exclusão é registrada para a sincronização incremental; sem registro não há o que excluir
+        if (taskTombstoneRepository.insertForOwnedTask(id, currentUser.getId(), LocalDateTime.now()) == 0
+                || taskRepository.deleteByIdAndOwnerId(id, currentUser.getId()) == 0) {
+            throw accessFailure(id);
+        }
+    }
+
+    @Transactional
+    public BulkUpdateResponse bulkUpdateStatus(TaskBulkStatusRequest request, User currentUser) {
+        TaskFilter filter = toFilter(request.getFilter(), currentUser);
+        taskRepository.incrementTasksVersions(filter);
+        return BulkUpdateResponse.builder()
+                .updated(taskRepository.updateStatus(filter, request.getStatus()))
+                .build();
+    }
+
+    @Transactional
+    public BulkUpdateResponse bulkReassign(TaskBulkReassignRequest request, User currentUser) {
+        TaskFilter filter = toFilter(request.getFilter(), currentUser);
+
+        User assignedUser = null;
+        if (request.getAssignedUserId() != null) {
+            assignedUser = userService.findById(request.getAssignedUserId());
+        }
+
+        taskRepository.incrementTasksVersions(filter);
+        return BulkUpdateResponse.builder()
+                .updated(taskRepository.updateAssignedUser(filter, assignedUser))
+                .build();
+    }
+
+    /**
+     * Confere o acesso ao projeto e o formato antes de a exportação começar a
+     * escrever a resposta.
+     */
+    public TaskExportFormat prepareExport(Long projectId, String format, User currentUser) {
+        TaskExportFormat exportFormat = TaskExportFormat.fromParam(format)
+                .orElseThrow(() -> new BusinessException("Formato de exportação inválido: " + format));
+        projectService.validateOwnership(projectId, currentUser);
+        return exportFormat;
+    }
+
+    /**
+     * Entrega as tarefas do projeto, em ordem de id, a {@code consumer} à medida que
+     * são lidas do banco, sem montar a lista inteira em memória.
+     */
+    @Transactional(readOnly = true)
+    public void exportByProject(Long projectId, Consumer<TaskResponse> consumer) {
+        try (Stream<TaskResponse> tasks = taskRepository.streamResponsesByProjectId(projectId)) {
+            tasks.forEach(consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskSearchResponse> search(String query, int limit, User currentUser) {
+        if (query == null || query.isBlank()) {
+            throw new BusinessException("Informe o termo de busca");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new BusinessException("O termo de busca pode ter no máximo " + MAX_SEARCH_QUERY_LENGTH + " caracteres");
+        }
+
+        int size = limit < 1 ? DEFAULT_SEARCH_LIMIT : Math.min(limit, MAX_SEARCH_LIMIT);
+        return taskSearchRepository.search(currentUser.getId(), query.strip(), size);
+    }
+
+    private TaskFilter toFilter(TaskSelectionRequest selection, User owner) {
+        boolean hasIds = selection.getIds() != null && !selection.getIds().isEmpty();
+        if (!hasIds && selection.getProjectId() == null
+                && selection.getStatus() == null && selection.getAssignedUserId() == null) {
+            throw new BusinessException("Informe ao menos um critério de seleção");
+        }
+
+        return TaskFilter.builder()
+                .ownerId(owner.getId())
+                .ids(hasIds ? selection.getIds() : null)
+                .projectId(selection.getProjectId())
+                .status(selection.getStatus())
+                .assignedUserId(selection.getAssignedUserId())
+                .build();
+    }
+
+    private Versioned<TaskResponse> versioned(Task task) {
+        return new Versioned<>(taskMapper.toResponse(task), eTag(task));
+    }
+
+    private static String eTag(Task task) {
+        return new ResourceVersion(task.getVersion(), task.getProject().getUpdatedAt()).toETag();
+    }
 
-        taskRepository.delete(task);
+    private RuntimeException accessFailure(Long id) {
+        if (taskRepository.existsById(id)) {
+            return new UnauthorizedException("Você não tem permissão para acessar esta tarefa");
+        }
+        return new ResourceNotFoundException("Tarefa", id);
+    }
+
+    private Map<Long, User> findAssignees(List<TaskRequest> requests) {
+        List<Long> ids = requests.stream()
+                .filter(Objects::nonNull)
+                .map(TaskRequest::getAssignedUserId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return userService.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private List<ErrorResponse.FieldError> validateBatchItem(TaskRequest request, Map<Long, User> assignees) {
+        List<ErrorResponse.FieldError> errors = new ArrayList<>();
+        if (request == null) {
+            errors.add(new ErrorResponse.FieldError(null, "Tarefa não informada"));
+            return errors;
+        }
+
+        for (ConstraintViolation<TaskRequest> violation : validator.validate(request)) {
+            errors.add(new ErrorResponse.FieldError(violation.getPropertyPath().toString(), violation.getMessage()));
+        }
+
+        Long assignedUserId = request.getAssignedUserId();
+        if (assignedUserId != null && !assignees.containsKey(assignedUserId)) {
+            errors.add(new ErrorResponse.FieldError("assignedUserId",
+                    new ResourceNotFoundException("Usuário", assignedUserId).getMessage()));
+        }
+        return errors;
+    }
+
+    private TaskSort parseSort(String sort, TaskSort defaultSort) {
+        if (sort == null || sort.isBlank()) {
+            return defaultSort;
+        }
+        return TaskSort.fromParam(sort)
+                .orElseThrow(() -> new BusinessException("Ordenação inválida: " + sort));
+    }
+
+    private void validateDeadlineRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BusinessException("Intervalo de prazo inválido");
+        }
     }
 
-    private void validateTaskAccess(Task task, User user) {
-        if (!task.getProject().getOwner().getId().equals(user.getId())) {
-            throw new UnauthorizedException("Você não tem permissão para acessar esta tarefa");
+    private int normalizePageSize(int limit) {
+        if (limit < 1) {
+            return DEFAULT_PAGE_SIZE;
         }
+        return Math.min(limit, MAX_PAGE_SIZE);
     }
 
     private void validateDeadline(LocalDate deadline) {
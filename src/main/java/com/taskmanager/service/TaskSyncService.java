@@ -0,0 +1,152 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.response.TaskChangesResponse;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.TaskTombstone;
+import com.taskmanager.entity.User;
+import com.taskmanager.exception.BusinessException;
+import com.taskmanager.exception.GoneException;
+import com.taskmanager.mapper.TaskMapper;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskTombstoneRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sincronização incremental das tarefas de um projeto. Toda escrita grava nas
+ * tarefas e nas exclusões o contador {@code tasksVersion} do projeto, avançado
+ * sob o bloqueio da linha do projeto; por isso a ordem de {@code syncVersion} é a
+ * ordem dos commits. O token guarda a posição {@code (syncVersion, id)} até a
+ * qual o cliente já recebeu tarefas e exclusões, que são lidas juntas nessa
+ * ordem e dividem o mesmo tamanho de página.
+ *
+ * <p>Cada chamada lê primeiro o contador já confirmado do projeto e não passa
+ * dele: toda versão até esse valor pertence a uma transação que já terminou, e
+ * as seguintes ficam para a próxima chamada.
+ *
+ * <p>O token também guarda quando começou a sequência de páginas, e a retenção
+ * das exclusões é conferida contra esse início, não contra a posição.
+ */
+@Service
+public class TaskSyncService {
+
+    public static final int DEFAULT_CHANGES_LIMIT = 500;
+    public static final int MAX_CHANGES_LIMIT = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskMapper taskMapper;
+    private final ProjectService projectService;
+    private final Duration tombstoneRetention;
+
+    public TaskSyncService(
+            TaskRepository taskRepository,
+            TaskTombstoneRepository taskTombstoneRepository,
+            ProjectRepository projectRepository,
+            TaskMapper taskMapper,
+            ProjectService projectService,
+            @Value("${task.sync.tombstone-retention:P30D}") Duration tombstoneRetention
+    ) {
+        this.taskRepository = taskRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.projectRepository = projectRepository;
+        this.taskMapper = taskMapper;
+        this.projectService = projectService;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * Alterações do projeto depois de {@code since}; sem token devolve todas as
+     * tarefas, em páginas de {@code limit}, como sincronização inicial.
+     */
+    @Transactional(readOnly = true)
+    public TaskChangesResponse findChanges(Long projectId, String since, int limit, User currentUser) {
+        projectService.validateOwnership(projectId, currentUser);
+
+        int pageSize = limit < 1 ? DEFAULT_CHANGES_LIMIT : Math.min(limit, MAX_CHANGES_LIMIT);
+        LocalDateTime now = LocalDateTime.now();
+        long until = projectRepository.findTasksVersionById(projectId);
+
+        long sinceVersion = 0;
+        long afterId = 0;
+        // sincronização inicial: exclusões até o início não interessam ao cliente
+        long deletedAfter = until;
+        LocalDateTime startedAt = now;
+        if (since != null && !since.isBlank()) {
+            PageCursor token = PageCursor.decode(since, 4);
+            Long tokenVersion = token.getLong(0);
+            Long tokenAfterId = token.getLong(1);
+            Long tokenDeletedAfter = token.getLong(2);
+            startedAt = token.getDateTime(3);
+            if (tokenVersion == null || tokenDeletedAfter == null || startedAt == null) {
+                throw new BusinessException("Token de sincronização inválido");
+            }
+            if (startedAt.isBefore(now.minus(tombstoneRetention))) {
+                throw new GoneException("Token de sincronização expirado; faça a sincronização completa novamente");
+            }
+            sinceVersion = tokenVersion;
+            // sem afterId, tudo o que foi escrito em sinceVersion já foi entregue
+            afterId = tokenAfterId != null ? tokenAfterId : Long.MAX_VALUE;
+            deletedAfter = tokenDeletedAfter;
+        }
+
+        List<Task> tasks = taskRepository.findChangedByProjectId(
+                projectId, sinceVersion, afterId, until, Limit.of(pageSize + 1));
+        List<TaskTombstone> tombstones = deletedAfter >= sinceVersion
+                ? taskTombstoneRepository.findByProjectIdChangedAfter(
+                        projectId, deletedAfter, Long.MAX_VALUE, until, Limit.of(pageSize + 1))
+                : taskTombstoneRepository.findByProjectIdChangedAfter(
+                        projectId, sinceVersion, afterId, until, Limit.of(pageSize + 1));
+
+        // junta as duas listas na ordem de (syncVersion, id) até completar a página
+        List<Task> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        int nextTask = 0;
+        int nextTombstone = 0;
+        long lastVersion = sinceVersion;
+        long lastId = afterId;
+        while (changed.size() + deleted.size() < pageSize
+                && (nextTask < tasks.size() || nextTombstone < tombstones.size())) {
+            Task task = nextTask < tasks.size() ? tasks.get(nextTask) : null;
+            TaskTombstone tombstone = nextTombstone < tombstones.size() ? tombstones.get(nextTombstone) : null;
+            if (tombstone == null || (task != null && precedes(task, tombstone))) {
+                changed.add(task);
+                lastVersion = task.getSyncVersion();
+                lastId = task.getId();
+                nextTask++;
+            } else {
+                deleted.add(tombstone.getTaskId());
+                lastVersion = tombstone.getSyncVersion();
+                lastId = tombstone.getTaskId();
+                nextTombstone++;
+            }
+        }
+        // cada lista veio com um item além da página: se sobrou algum, há mais
+        boolean hasMore = nextTask < tasks.size() || nextTombstone < tombstones.size();
+
+        String nextToken = hasMore
+                ? PageCursor.encode(lastVersion, lastId, deletedAfter, startedAt)
+                : PageCursor.encode(Math.max(until, sinceVersion), null, Math.max(until, sinceVersion), now);
+
+        return TaskChangesResponse.builder()
+                .changed(changed.stream().map(taskMapper::toResponse).toList())
+                .deleted(deleted)
+                .nextToken(nextToken)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private static boolean precedes(Task task, TaskTombstone tombstone) {
+        int byVersion = Long.compare(task.getSyncVersion(), tombstone.getSyncVersion());
+        return byVersion != 0 ? byVersion < 0 : task.getId() < tombstone.getTaskId();
+    }
+}
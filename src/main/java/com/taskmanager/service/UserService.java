@@ -1,44 +1,109 @@
 package com.taskmanager.service;
 
 import com.taskmanager.dto.request.UserUpdateRequest;
+import com.taskmanager.dto.response.CursorPageResponse;
 import com.taskmanager.dto.response.UserResponse;
+import com.taskmanager.dto.response.UserSuggestionResponse;
 import com.taskmanager.entity.User;
 import com.taskmanager.exception.BusinessException;
 import com.taskmanager.exception.ResourceNotFoundException;
 import com.taskmanager.mapper.UserMapper;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
 import com.taskmanager.repository.UserRepository;
+import com.taskmanager.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int DEFAULT_SUGGESTION_LIMIT = 10;
+    public static final int MAX_SUGGESTION_LIMIT = 20;
+
     private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final UserSuggestionIndex userSuggestionIndex;
 
     public User findById(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário", id));
     }
 
+    public List<User> findAllById(Collection<Long> ids) {
+        return userRepository.findAllById(ids);
+    }
+
+    public List<Long> findExistingIds(Collection<Long> ids) {
+        return userRepository.findExistingIds(ids);
+    }
+
     public User findByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário", "email", email));
     }
 
-    public List<UserResponse> findAll() {
-        return userRepository.findAll()
-                .stream()
-                .map(userMapper::toResponse)
-                .toList();
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserResponse> findAll(String cursor, int limit) {
+        int pageSize = limit < 1 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            afterId = PageCursor.decode(cursor, 1).getLong(0);
+            if (afterId == null) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+        }
+
+        List<UserResponse> users = afterId == null
+                ? userRepository.findFirstResponses(Limit.of(pageSize + 1))
+                : userRepository.findResponsesAfter(afterId, Limit.of(pageSize + 1));
+        boolean hasNext = users.size() > pageSize;
+        if (hasNext) {
+            users = users.subList(0, pageSize);
+        }
+
+        return CursorPageResponse.<UserResponse>builder()
+                .items(users)
+                .nextCursor(hasNext ? PageCursor.encode(users.get(users.size() - 1).getId()) : null)
+                .build();
+    }
+
+    /**
+     * Entrega todos os usuários, em ordem de id, a {@code consumer} à medida que são
+     * lidos do banco, sem montar a lista inteira em memória.
+     */
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<UserResponse> consumer) {
+        try (Stream<UserResponse> users = userRepository.streamAllResponses()) {
+            users.forEach(consumer);
+        }
     }
 
+    public List<UserSuggestionResponse> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new BusinessException("Informe o prefixo para sugestão");
+        }
+        int size = limit < 1 ? DEFAULT_SUGGESTION_LIMIT : Math.min(limit, MAX_SUGGESTION_LIMIT);
+        return userSuggestionIndex.suggest(prefix, size);
+    }
+
+    @Transactional(readOnly = true)
     public UserResponse findByIdResponse(Long id) {
         return userMapper.toResponse(findById(id));
     }
@@ -46,12 +111,17 @@ public class UserService {
     @Transactional
     public UserResponse update(Long id, UserUpdateRequest request) {
         User user = findById(id);
+        principalCache.evict(user.getEmail(), request.getEmail());
 
         if (!user.getEmail().equals(request.getEmail())
                 && userRepository.existsByEmail(request.getEmail())) {
             throw new BusinessException("Email já está em uso");
         }
 
+        if (!user.getName().equals(request.getName())) {
+            projectRepository.incrementTasksVersionByAssignedUserId(id);
+            taskRepository.touchByAssignedUserId(id, LocalDateTime.now());
+        }
         user.setName(request.getName());
         user.setEmail(request.getEmail());
 
@@ -59,15 +129,26 @@ public class UserService {
             user.setPassword(passwordEncoder.encode(request.getPassword()));
         }
 
-        return userMapper.toResponse(userRepository.save(user));
+        User saved = userRepository.save(user);
+        userSuggestionIndex.put(saved);
+        return userMapper.toResponse(saved);
     }
 
     @Transactional
     public void delete(Long id) {
-        if (!userRepository.existsById(id)) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário", id));
+
+        LocalDateTime deletedAt = LocalDateTime.now();
+        if (userRepository.softDeleteById(id, deletedAt) == 0) {
             throw new ResourceNotFoundException("Usuário", id);
         }
-        userRepository.deleteById(id);
+        projectRepository.softDeleteByOwnerId(id, deletedAt);
+        // as tarefas atribuídas em projetos de outros donos deixam de trazer o usuário
+        projectRepository.incrementTasksVersionByAssignedUserId(id);
+        taskRepository.touchByAssignedUserId(id, deletedAt);
+        principalCache.evict(user.getEmail());
+        userSuggestionIndex.remove(id);
     }
 
     public boolean existsByEmail(String email) {
@@ -0,0 +1,195 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.response.UserResponse;
+import com.taskmanager.dto.response.UserSuggestionResponse;
+import com.taskmanager.entity.User;
+import com.taskmanager.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Índice em memória, por prefixo, de nomes e emails de usuários ativos para o
+ * autocompletar de responsáveis. Cada palavra do nome, o nome completo e o email
+ * viram chaves normalizadas (minúsculas, sem acentos) em um mapa ordenado; uma
+ * busca é um intervalo desse mapa.
+ *
+ * <p>É montado na inicialização, atualizado após o commit de cadastro, edição e
+ * exclusão, e remontado periodicamente para absorver alterações feitas por
+ * outras instâncias. Alterações que chegam durante uma remontagem valem para o
+ * índice atual e são reaplicadas no novo antes da troca, para não se perderem.
+ */
+@Slf4j
+@Component
+public class UserSuggestionIndex {
+
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final UserRepository userRepository;
+
+    private final Object mutationLock = new Object();
+
+    private volatile Entries entries = new Entries();
+
+    /** Alterações recebidas desde o início da remontagem em curso; nulo fora dela. */
+    private List<Consumer<Entries>> pendingMutations;
+
+    public UserSuggestionIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${users.suggestions.refresh-interval:PT10M}",
+            initialDelayString = "${users.suggestions.refresh-interval:PT10M}")
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        synchronized (mutationLock) {
+            pendingMutations = new ArrayList<>();
+        }
+        try {
+            Entries rebuilt = new Entries();
+            try (Stream<UserResponse> users = userRepository.streamAllResponses()) {
+                users.forEach(user -> rebuilt.put(user.getId(), user.getName(), user.getEmail()));
+            }
+            synchronized (mutationLock) {
+                pendingMutations.forEach(mutation -> mutation.accept(rebuilt));
+                entries = rebuilt;
+            }
+            log.debug("Índice de sugestão de usuários montado com {} usuários", rebuilt.users.size());
+        } finally {
+            synchronized (mutationLock) {
+                pendingMutations = null;
+            }
+        }
+    }
+
+    public void put(User user) {
+        Long id = user.getId();
+        String name = user.getName();
+        String email = user.getEmail();
+        afterCommit(() -> apply(target -> target.put(id, name, email)));
+    }
+
+    public void remove(Long userId) {
+        afterCommit(() -> apply(target -> target.remove(userId)));
+    }
+
+    /**
+     * Até {@code limit} usuários cujo nome, alguma palavra do nome ou email começa
+     * com {@code prefix}, em ordem alfabética da chave encontrada.
+     */
+    public List<UserSuggestionResponse> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        return entries.find(key, limit);
+    }
+
+    private void apply(Consumer<Entries> mutation) {
+        synchronized (mutationLock) {
+            mutation.accept(entries);
+            if (pendingMutations != null) {
+                pendingMutations.add(mutation);
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.strip(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> keysOf(Long id, String name, String email) {
+        Set<String> terms = new LinkedHashSet<>();
+        String normalizedName = normalize(name);
+        terms.add(normalizedName);
+        for (String word : WHITESPACE.split(normalizedName)) {
+            terms.add(word);
+        }
+        terms.add(normalize(email));
+
+        Set<String> keys = new LinkedHashSet<>();
+        for (String term : terms) {
+            if (!term.isEmpty()) {
+                keys.add(term + ID_SEPARATOR + id);
+            }
+        }
+        return keys;
+    }
+
+    private record Entry(UserSuggestionResponse user, Set<String> keys) {
+    }
+
+    private static final class Entries {
+
+        private final NavigableMap<String, Long> keys = new ConcurrentSkipListMap<>();
+        private final Map<Long, Entry> users = new ConcurrentHashMap<>();
+
+        synchronized void put(Long id, String name, String email) {
+            remove(id);
+            Set<String> userKeys = keysOf(id, name, email);
+            users.put(id, new Entry(new UserSuggestionResponse(id, name, email), userKeys));
+            userKeys.forEach(key -> keys.put(key, id));
+        }
+
+        synchronized void remove(Long id) {
+            Entry previous = users.remove(id);
+            if (previous != null) {
+                previous.keys().forEach(keys::remove);
+            }
+        }
+
+        List<UserSuggestionResponse> find(String prefix, int limit) {
+            Set<Long> ids = new LinkedHashSet<>();
+            for (Long id : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                if (ids.add(id) && ids.size() == limit) {
+                    break;
+                }
+            }
+
+            List<UserSuggestionResponse> result = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                Entry entry = users.get(id);
+                if (entry != null) {
+                    result.add(entry.user());
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.taskmanager.service;
+
+/**
+ * Resposta acompanhada da ETag da mesma versão do recurso, lida na mesma transação.
+ */
+public record Versioned<T>(T body, String eTag) {
+}
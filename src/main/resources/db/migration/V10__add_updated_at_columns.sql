@@ -0,0 +1,8 @@
+-- Última alteração de cada linha, preenchida pela aplicação em toda escrita. As
+-- versões usadas nas ETags (quantidade + maior updated_at) saem daqui.
+ALTER TABLE users ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE projects ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE tasks ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+-- COUNT e MAX(updated_at) das tarefas de um projeto por index-only scan
+CREATE INDEX idx_tasks_project_updated ON tasks(project_id, updated_at);
@@ -0,0 +1,14 @@
+-- Exclusões de tarefas para a sincronização incremental (GET /projects/{id}/changes)
+CREATE TABLE task_tombstones (
+    id BIGSERIAL PRIMARY KEY,
+    task_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_task_tombstones_project_deleted ON task_tombstones(project_id, deleted_at);
+CREATE INDEX idx_task_tombstones_deleted ON task_tombstones(deleted_at);
+
+-- A consulta de alterações percorre (project_id, updated_at, id) em ordem
+DROP INDEX IF EXISTS idx_tasks_project_updated;
+CREATE INDEX idx_tasks_project_updated ON tasks(project_id, updated_at, id);
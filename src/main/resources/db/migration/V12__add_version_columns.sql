@@ -0,0 +1,4 @@
+-- Versão para controle otimista de concorrência (@Version), exposta como ETag e
+-- conferida em If-Match nas atualizações
+ALTER TABLE projects ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
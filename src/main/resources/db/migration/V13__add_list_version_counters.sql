@@ -0,0 +1,5 @@
+-- Contadores das listas usadas nas ETags. Cada escrita avança o contador dentro da
+-- própria transação, e o UPDATE mantém a linha bloqueada até o commit: dois
+-- valores nunca ficam visíveis fora da ordem em que as transações terminaram.
+ALTER TABLE projects ADD COLUMN tasks_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN projects_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,12 @@
+-- Posição de cada tarefa e de cada exclusão na sincronização incremental: o valor
+-- de projects.tasks_version da transação que a escreveu. Como o contador só
+-- avança sob o bloqueio do projeto, a ordem dessas versões é a ordem dos commits.
+ALTER TABLE tasks ADD COLUMN sync_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE task_tombstones ADD COLUMN sync_version BIGINT NOT NULL DEFAULT 0;
+
+-- A consulta de alterações percorre (project_id, sync_version, id) em ordem
+DROP INDEX IF EXISTS idx_tasks_project_updated;
+CREATE INDEX idx_tasks_project_sync ON tasks(project_id, sync_version, id);
+
+DROP INDEX IF EXISTS idx_task_tombstones_project_deleted;
+CREATE INDEX idx_task_tombstones_project_sync ON task_tombstones(project_id, sync_version, task_id);
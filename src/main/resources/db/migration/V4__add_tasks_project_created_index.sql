@@ -0,0 +1,3 @@
+CREATE INDEX idx_tasks_project_created ON tasks(project_id, created_at, id);
+
+DROP INDEX idx_tasks_project;
@@ -0,0 +1,5 @@
+-- Ids de tarefas passam a ser reservados em blocos de 50 pelo Hibernate (otimizador pooled),
+-- o que permite agrupar os INSERTs em lotes JDBC.
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
+
+SELECT setval('tasks_id_seq', COALESCE((SELECT MAX(id) FROM tasks), 0) + 50);
@@ -0,0 +1,18 @@
+-- Exclusão lógica de projetos e usuários: as linhas ficam marcadas em deleted_at
+-- até o worker de expurgo removê-las (e suas tarefas) em lotes.
+ALTER TABLE projects ADD COLUMN deleted_at TIMESTAMP;
+ALTER TABLE users ADD COLUMN deleted_at TIMESTAMP;
+
+-- Leituras sempre filtram deleted_at IS NULL; os índices parciais cobrem só as linhas ativas.
+CREATE INDEX idx_projects_owner_active ON projects(owner_id) WHERE deleted_at IS NULL;
+DROP INDEX idx_projects_owner;
+
+-- O email só precisa ser único entre usuários ativos, para permitir novo cadastro
+-- enquanto a conta excluída aguarda o expurgo.
+ALTER TABLE users DROP CONSTRAINT users_email_key;
+CREATE UNIQUE INDEX uk_users_email_active ON users(email) WHERE deleted_at IS NULL;
+DROP INDEX idx_users_email;
+
+-- Fila do worker de expurgo.
+CREATE INDEX idx_projects_deleted_at ON projects(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX idx_users_deleted_at ON users(deleted_at) WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,7 @@
+-- Índices compostos para a listagem filtrada de tarefas: igualdade em project_id
+-- (e status), seguida da coluna ordenada e do id usado como desempate do cursor.
+CREATE INDEX idx_tasks_project_status_created ON tasks(project_id, status, created_at, id);
+CREATE INDEX idx_tasks_project_status_deadline ON tasks(project_id, status, deadline, id);
+CREATE INDEX idx_tasks_project_deadline ON tasks(project_id, deadline, id);
+
+DROP INDEX idx_tasks_status;
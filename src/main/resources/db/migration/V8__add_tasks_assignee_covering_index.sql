@@ -0,0 +1,9 @@
+-- Painel "minhas tarefas": igualdade em assigned_user_id (e status), ordenação por
+-- prazo e id. project_id fica no INCLUDE para o join com projects sair do próprio
+-- índice, sem visitar a tabela para as linhas descartadas.
+CREATE INDEX idx_tasks_assignee_status_deadline
+    ON tasks(assigned_user_id, status, deadline, id) INCLUDE (project_id);
+CREATE INDEX idx_tasks_assignee_deadline
+    ON tasks(assigned_user_id, deadline, id) INCLUDE (project_id);
+
+DROP INDEX idx_tasks_assigned_user;
@@ -0,0 +1,8 @@
+-- Busca textual em tarefas: título com peso A e descrição com peso B, em uma
+-- coluna gerada mantida pelo próprio banco a cada INSERT/UPDATE.
+ALTER TABLE tasks ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('portuguese', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('portuguese', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
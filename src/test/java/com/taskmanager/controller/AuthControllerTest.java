@@ -5,6 +5,7 @@ import com.taskmanager.dto.request.LoginRequest;
 import com.taskmanager.dto.request.RegisterRequest;
 import com.taskmanager.dto.response.AuthResponse;
 import com.taskmanager.exception.BusinessException;
+import com.taskmanager.exception.ServiceUnavailableException;
 import com.taskmanager.service.AuthService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,8 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -137,6 +140,24 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.message").value("Email ou senha inválidos"));
     }
 
+    @Test
+    @DisplayName("Deve retornar 503 com Retry-After quando o hash de senha estiver saturado")
+    void login_PasswordHashingSaturated() throws Exception {
+        var request = LoginRequest.builder()
+                .email("joao@email.com")
+                .password("senha123")
+                .build();
+
+        when(authService.login(any(LoginRequest.class)))
+                .thenThrow(new ServiceUnavailableException("Serviço temporariamente sobrecarregado", Duration.ofSeconds(5)));
+
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"));
+    }
+
     @Test
     @DisplayName("Deve renovar token com sucesso")
     void refresh_Success() throws Exception {
@@ -9,6 +9,7 @@ import com.taskmanager.exception.UnauthorizedException;
 import com.taskmanager.repository.UserRepository;
 import com.taskmanager.security.JwtService;
 import com.taskmanager.service.ProjectService;
+import com.taskmanager.service.Versioned;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -172,14 +174,15 @@ class ProjectControllerTest {
                 .ownerName("João Silva")
                 .build();
 
-        when(projectService.update(eq(1L), any(ProjectRequest.class), any(User.class)))
-                .thenReturn(updatedResponse);
+        when(projectService.update(eq(1L), any(ProjectRequest.class), isNull(), any(User.class)))
+                .thenReturn(new Versioned<>(updatedResponse, "\"v1\""));
 
         mockMvc.perform(put("/projects/1")
                         .header("Authorization", "Bearer " + jwtToken)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
                 .andExpect(jsonPath("$.name").value("Projeto Atualizado"));
     }
 
@@ -190,7 +193,7 @@ class ProjectControllerTest {
 
         mockMvc.perform(delete("/projects/1")
                         .header("Authorization", "Bearer " + jwtToken))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
 
         verify(projectService).delete(eq(1L), any(User.class));
     }
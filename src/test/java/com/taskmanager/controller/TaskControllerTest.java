@@ -0,0 +1,578 @@
+package com.taskmanager.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskmanager.dto.request.TaskStatusRequest;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.entity.User;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskTombstoneRepository;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.security.JwtService;
+import com.taskmanager.security.PrincipalCache;
+import com.taskmanager.service.PageCursor;
+import com.taskmanager.service.TaskImportService;
+import com.taskmanager.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskControllerTest {
+
+    private static final String OWNER_EMAIL = "dono-exportacao@email.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String jwtToken;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(User.builder()
+                .name("Dono")
+                .email(OWNER_EMAIL)
+                .password("encodedPassword")
+                .build());
+
+        project = projectRepository.save(Project.builder()
+                .name("Projeto")
+                .owner(owner)
+                .build());
+
+        taskRepository.saveAll(List.of(
+                Task.builder()
+                        .title("Simples")
+                        .project(project)
+                        .assignedUser(owner)
+                        .build(),
+                Task.builder()
+                        .title("Com \"aspas\", vírgula")
+                        .description("linha 1\nlinha 2")
+                        .status(TaskStatus.DONE)
+                        .project(project)
+                        .build()));
+
+        jwtToken = jwtService.generateToken(owner);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        taskTombstoneRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        principalCache.evict(OWNER_EMAIL);
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 para ETag atual e 200 após alteração de uma tarefa")
+    void findAllByProject_ConditionalGet() throws Exception {
+        String etag = mockMvc.perform(get("/projects/{projectId}/tasks", project.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/projects/{projectId}/tasks", project.getId())
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        Long taskId = taskRepository.findAll().get(0).getId();
+        mockMvc.perform(patch("/tasks/{id}/status", taskId)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DOING\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/projects/{projectId}/tasks", project.getId())
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    @DisplayName("Deve mudar a ETag da lista no commit de uma escrita que terminou depois de outra")
+    void findAllByProject_ETagFollowsCommitOrder() throws Exception {
+        User owner = userRepository.findByEmail(OWNER_EMAIL).orElseThrow();
+        List<Task> tasks = taskRepository.findByProjectId(project.getId());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            String before = listETag();
+
+            // a primeira escrita grava e segura o commit
+            Future<?> first = executor.submit(() -> transaction.executeWithoutResult(status -> {
+                taskService.updateStatus(tasks.get(0).getId(), new TaskStatusRequest(TaskStatus.DOING), null, owner);
+                firstWritten.countDown();
+                await(releaseFirst);
+            }));
+            assertThat(firstWritten.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // a segunda escrita começa depois e tenta terminar antes
+            Future<?> second = executor.submit(() -> transaction.executeWithoutResult(status ->
+                    taskService.updateStatus(tasks.get(1).getId(), new TaskStatusRequest(TaskStatus.TODO), null, owner)));
+            try {
+                second.get(300, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // esperando o bloqueio do projeto, que a primeira escrita mantém até o commit
+            }
+            String between = listETag();
+
+            releaseFirst.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+
+            assertThat(between).isEqualTo(before);
+            assertThat(listETag()).isNotEqualTo(between);
+        } finally {
+            releaseFirst.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private String listETag() throws Exception {
+        return mockMvc.perform(get("/projects/{projectId}/tasks", project.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve responder 304 para projeto de outro usuário")
+    void findAllByProject_ConditionalGetOtherOwner() throws Exception {
+        User other = userRepository.save(User.builder()
+                .name("Outro")
+                .email("outro-exportacao@email.com")
+                .password("encodedPassword")
+                .build());
+
+        mockMvc.perform(get("/projects/{projectId}/tasks", project.getId())
+                        .header("Authorization", "Bearer " + jwtService.generateToken(other))
+                        .header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isForbidden());
+
+        principalCache.evict(other.getEmail());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar If-Match com a ETag atual e responder 412 para versão antiga")
+    void updateStatus_IfMatch() throws Exception {
+        Long taskId = taskRepository.findAll().get(0).getId();
+        String etag = mockMvc.perform(get("/tasks/{id}", taskId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String updatedEtag = mockMvc.perform(patch("/tasks/{id}/status", taskId)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DOING\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DOING"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updatedEtag).isNotEqualTo(etag);
+
+        mockMvc.perform(put("/tasks/{id}", taskId)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Sobrescrita\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/tasks/{id}", taskId)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, updatedEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Merge patch deve alterar só os campos enviados e remover os enviados como null")
+    void patch_MergePatch() throws Exception {
+        Task task = taskRepository.findAll().stream()
+                .filter(t -> t.getTitle().equals("Simples"))
+                .findFirst()
+                .orElseThrow();
+
+        mockMvc.perform(patch("/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"description\":\"Nova descrição\",\"assignedUserId\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.title").value("Simples"))
+                .andExpect(jsonPath("$.description").value("Nova descrição"))
+                .andExpect(jsonPath("$.assignedUserId").value(nullValue()));
+
+        mockMvc.perform(patch("/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"title\":\"  \"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Merge patch de projeto deve manter os campos ausentes")
+    void patchProject_MergePatch() throws Exception {
+        mockMvc.perform(patch("/projects/{id}", project.getId())
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"description\":\"Descrição nova\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Projeto"))
+                .andExpect(jsonPath("$.description").value("Descrição nova"));
+    }
+
+    @Test
+    @DisplayName("Deve sincronizar apenas tarefas alteradas e excluídas desde o token")
+    void findChanges_ReturnsOnlyDelta() throws Exception {
+        String token = JsonPath.read(mockMvc.perform(get("/projects/{projectId}/changes", project.getId())
+                        .param("limit", "1")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString(), "$.nextToken");
+
+        token = JsonPath.read(mockMvc.perform(get("/projects/{projectId}/changes", project.getId())
+                        .param("since", token)
+                        .param("limit", "1")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn().getResponse().getContentAsString(), "$.nextToken");
+
+        List<Task> tasks = taskRepository.findAll();
+        Long updatedId = tasks.get(0).getId();
+        Long deletedId = tasks.get(1).getId();
+        mockMvc.perform(patch("/tasks/{id}/status", updatedId)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DOING\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/tasks/{id}", deletedId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isNoContent());
+
+        token = JsonPath.read(mockMvc.perform(get("/projects/{projectId}/changes", project.getId())
+                        .param("since", token)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.changed[0].id").value(updatedId))
+                .andExpect(jsonPath("$.changed[0].status").value("DOING"))
+                .andExpect(jsonPath("$.deleted").value(contains(deletedId.intValue())))
+                .andReturn().getResponse().getContentAsString(), "$.nextToken");
+
+        mockMvc.perform(get("/projects/{projectId}/changes", project.getId())
+                        .param("since", token)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").isEmpty())
+                .andExpect(jsonPath("$.deleted").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve pular na sincronização uma escrita confirmada depois de o token ser entregue")
+    void findChanges_KeepsWriteCommittedAfterToken() throws Exception {
+        User owner = userRepository.findByEmail(OWNER_EMAIL).orElseThrow();
+        Long taskId = taskRepository.findByProjectId(project.getId()).get(0).getId();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            String token = JsonPath.read(mockMvc.perform(get("/projects/{projectId}/changes", project.getId())
+                            .header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(), "$.nextToken");
+
+            Future<?> write = executor.submit(() -> transaction.executeWithoutResult(status -> {
+                taskService.updateStatus(taskId, new TaskStatusRequest(TaskStatus.DOING), null, owner);
+                written.countDown();
+                await(release);
+            }));
+            assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+
+            token = JsonPath.read(mockMvc.perform(get("/projects/{projectId}/changes", project.getId())
+                            .param("since", token)
+                            .header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.changed").isEmpty())
+                    .andReturn().getResponse().getContentAsString(), "$.nextToken");
+
+            release.countDown();
+            write.get(5, TimeUnit.SECONDS);
+
+            mockMvc.perform(get("/projects/{projectId}/changes", project.getId())
+                            .param("since", token)
+                            .header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.changed.length()").value(1))
+                    .andExpect(jsonPath("$.changed[0].id").value(taskId))
+                    .andExpect(jsonPath("$.changed[0].status").value("DOING"));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve responder 410 para token mais antigo que a retenção das exclusões")
+    void findChanges_ExpiredToken() throws Exception {
+        mockMvc.perform(get("/projects/{projectId}/changes", project.getId())
+                        .param("since", PageCursor.encode(0L, null, 0L, LocalDateTime.now().minusDays(31)))
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isGone());
+    }
+
+    @Test
+    @DisplayName("Deve concluir a sincronização inicial de projeto com tarefas paradas há mais que a retenção")
+    void findChanges_InitialSyncOfIdleProject() throws Exception {
+        jdbcTemplate.update("UPDATE tasks SET updated_at = ? WHERE project_id = ?",
+                LocalDateTime.now().minusDays(60), project.getId());
+
+        String token = JsonPath.read(mockMvc.perform(get("/projects/{projectId}/changes", project.getId())
+                        .param("limit", "1")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString(), "$.nextToken");
+
+        token = JsonPath.read(mockMvc.perform(get("/projects/{projectId}/changes", project.getId())
+                        .param("since", token)
+                        .param("limit", "1")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn().getResponse().getContentAsString(), "$.nextToken");
+
+        mockMvc.perform(get("/projects/{projectId}/changes", project.getId())
+                        .param("since", token)
+                        .param("limit", "1")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve exportar tarefas em NDJSON, uma por linha")
+    void export_Ndjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/projects/{projectId}/tasks/export", project.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("\"title\":\"Simples\"", "\"assignedUserName\":\"Dono\"");
+        assertThat(lines.get(1)).contains("\"description\":\"linha 1\\nlinha 2\"");
+    }
+
+    @Test
+    @DisplayName("Deve exportar tarefas em CSV comprimido com gzip quando o cliente aceitar")
+    void export_CsvGzip() throws Exception {
+        MvcResult result = mockMvc.perform(get("/projects/{projectId}/tasks/export", project.getId())
+                        .param("format", "csv")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] compressed = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"project-" + project.getId() + "-tasks.csv\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        String csv;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        assertThat(csv).startsWith("id,title,description,status,deadline,projectId,projectName,"
+                + "assignedUserId,assignedUserName,createdAt\r\n");
+        assertThat(csv).contains(",Simples,,TODO,,");
+        assertThat(csv).contains(",\"Com \"\"aspas\"\", vírgula\",\"linha 1\nlinha 2\",DONE,,");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar formato de exportação desconhecido antes de iniciar o streaming")
+    void export_InvalidFormat() throws Exception {
+        mockMvc.perform(get("/projects/{projectId}/tasks/export", project.getId())
+                        .param("format", "xml")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve importar CSV em streaming e relatar as linhas rejeitadas")
+    void importCsv_ReportsRejectedRows() throws Exception {
+        Long ownerId = userRepository.findByEmail(OWNER_EMAIL).orElseThrow().getId();
+        String csv = "title,description,status,deadline,assignedUserId,ignorada\r\n"
+                + "Importada 1,\"com, vírgula\",DOING,2020-01-31," + ownerId + ",x\r\n"
+                + ",sem título,,,,\r\n"
+                + "Status ruim,,BLOCKED,,,\r\n"
+                + "Responsável inexistente,,,,999999,\r\n"
+                + "Importada 2,,,,,\r\n";
+
+        mockMvc.perform(post("/projects/{projectId}/tasks/import", project.getId())
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8))
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.resumeFromLine").value(nullValue()))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].message").value("Título da tarefa é obrigatório"))
+                .andExpect(jsonPath("$.errors[1].message").value("Status inválido: BLOCKED"))
+                .andExpect(jsonPath("$.errors[2].line").value(5))
+                .andExpect(jsonPath("$.rowsPerSecond").isNumber());
+
+        List<Task> imported = taskRepository.findByProjectId(project.getId()).stream()
+                .filter(task -> task.getTitle().startsWith("Importada"))
+                .toList();
+        assertThat(imported).hasSize(2);
+        assertThat(imported).anySatisfy(task -> {
+            assertThat(task.getDescription()).isEqualTo("com, vírgula");
+            assertThat(task.getStatus()).isEqualTo(TaskStatus.DOING);
+            assertThat(task.getAssignedUser().getId()).isEqualTo(ownerId);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve manter os blocos já gravados e indicar a linha de retomada quando a importação falha")
+    void importCsv_ReportsPartialProgress() throws Exception {
+        StringBuilder csv = new StringBuilder("title\n");
+        for (int i = 1; i <= TaskImportService.CHUNK_SIZE; i++) {
+            csv.append("Lote ").append(i).append('\n');
+        }
+        long brokenLine = TaskImportService.CHUNK_SIZE + 2;
+        csv.append("\"sem fechar aspas\n");
+
+        mockMvc.perform(post("/projects/{projectId}/tasks/import", project.getId())
+                        .contentType("text/csv")
+                        .content(csv.toString().getBytes(StandardCharsets.UTF_8))
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(TaskImportService.CHUNK_SIZE))
+                .andExpect(jsonPath("$.completed").value(false))
+                .andExpect(jsonPath("$.resumeFromLine").value(brokenLine))
+                .andExpect(jsonPath("$.failure").value(
+                        "CSV inválido: aspas não fechadas no registro da linha " + brokenLine));
+
+        assertThat(taskRepository.findByProjectId(project.getId()))
+                .filteredOn(task -> task.getTitle().startsWith("Lote "))
+                .hasSize(TaskImportService.CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CSV sem a coluna title")
+    void importCsv_MissingTitleColumn() throws Exception {
+        mockMvc.perform(post("/projects/{projectId}/tasks/import", project.getId())
+                        .contentType("text/csv")
+                        .content("description\nqualquer\n")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,257 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.User;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.security.JwtService;
+import com.taskmanager.security.PrincipalCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Conta os comandos SQL emitidos por requisição para evitar regressões de N+1
+ * nas consultas de tarefas.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskQueryCountTest {
+
+    private static final String OWNER_EMAIL = "dono-query-count@email.com";
+    private static final int TASK_COUNT = 20;
+    private static final long MAX_STATEMENTS_TASK_LIST = 2;
+    // versão do projeto para a ETag + página
+    private static final long MAX_STATEMENTS_PROJECT_TASK_LIST = 3;
+    private static final long MAX_STATEMENTS_NOT_MODIFIED = 1;
+    private static final long MAX_STATEMENTS_TASK_DETAIL = 1;
+    // as escritas também avançam o contador de tarefas do projeto, e as que
+    // gravam entidades leem o novo valor para a posição na sincronização
+    private static final long MAX_STATEMENTS_TASK_STATUS = 3;
+    private static final long MAX_STATEMENTS_TASK_PATCH = 4;
+    private static final long MAX_STATEMENTS_TASK_BATCH = 6;
+    private static final long MAX_STATEMENTS_TASK_BULK_STATUS = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String jwtToken;
+    private Project project;
+    private Task task;
+    private List<User> assignees;
+    private List<Long> assigneeIds;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User owner = userRepository.save(User.builder()
+                .name("Dono")
+                .email(OWNER_EMAIL)
+                .password("encodedPassword")
+                .build());
+
+        assignees = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            assignees.add(User.builder()
+                    .name("Responsável " + i)
+                    .email("responsavel-" + i + "-query-count@email.com")
+                    .password("encodedPassword")
+                    .build());
+        }
+        assignees = userRepository.saveAll(assignees);
+        assigneeIds = assignees.stream().map(User::getId).toList();
+
+        project = projectRepository.save(Project.builder()
+                .name("Projeto")
+                .owner(owner)
+                .build());
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            tasks.add(Task.builder()
+                    .title("Tarefa " + i)
+                    .project(project)
+                    .assignedUser(assignees.get(i))
+                    .build());
+        }
+        task = taskRepository.saveAll(tasks).get(0);
+
+        jwtToken = jwtService.generateToken(owner);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        principalCache.evict(OWNER_EMAIL);
+        assignees.forEach(assignee -> principalCache.evict(assignee.getEmail()));
+    }
+
+    @Test
+    @DisplayName("Listagem de tarefas não deve disparar consultas por tarefa")
+    void findAllByProject_BoundedStatements() throws Exception {
+        long statements = countStatements(get("/projects/{projectId}/tasks", project.getId())
+                .header("Authorization", "Bearer " + jwtToken));
+
+        assertThat(statements).isLessThanOrEqualTo(MAX_STATEMENTS_PROJECT_TASK_LIST);
+    }
+
+    @Test
+    @DisplayName("Listagem com ETag atual deve responder 304 apenas com a consulta de versão")
+    void findAllByProject_NotModifiedSingleStatement() throws Exception {
+        String etag = mockMvc.perform(get("/projects/{projectId}/tasks", project.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        statistics.clear();
+        mockMvc.perform(get("/projects/{projectId}/tasks", project.getId())
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("Listagem filtrada deve ser compilada em uma única consulta")
+    void findAllByProject_FilteredBoundedStatements() throws Exception {
+        long statements = countStatements(get("/projects/{projectId}/tasks", project.getId())
+                .param("status", "TODO")
+                .param("assignedUserId", String.valueOf(assigneeIds.get(0)))
+                .param("deadlineFrom", "2025-01-01")
+                .param("sort", "-deadline")
+                .header("Authorization", "Bearer " + jwtToken));
+
+        assertThat(statements).isLessThanOrEqualTo(MAX_STATEMENTS_PROJECT_TASK_LIST);
+    }
+
+    @Test
+    @DisplayName("Minhas tarefas deve buscar tarefas e projetos em uma única consulta")
+    void findAllAssignedToMe_BoundedStatements() throws Exception {
+        long statements = countStatements(get("/users/me/tasks")
+                .param("status", "TODO")
+                .header("Authorization", "Bearer " + jwtService.generateToken(assignees.get(0))));
+
+        assertThat(statements).isLessThanOrEqualTo(MAX_STATEMENTS_TASK_LIST);
+    }
+
+    @Test
+    @DisplayName("Detalhe da tarefa deve carregar projeto e responsável em uma consulta")
+    void findById_BoundedStatements() throws Exception {
+        long statements = countStatements(get("/tasks/{id}", task.getId())
+                .header("Authorization", "Bearer " + jwtToken));
+
+        assertThat(statements).isLessThanOrEqualTo(MAX_STATEMENTS_TASK_DETAIL);
+    }
+
+    @Test
+    @DisplayName("Alteração de status deve autorizar e atualizar no mesmo comando")
+    void updateStatus_BoundedStatements() throws Exception {
+        long statements = countStatements(patch("/tasks/{id}/status", task.getId())
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"DOING\"}"));
+
+        assertThat(statements).isLessThanOrEqualTo(MAX_STATEMENTS_TASK_STATUS);
+    }
+
+    @Test
+    @DisplayName("Merge patch sem troca de responsável deve ler a tarefa e gravar só a alteração")
+    void patch_BoundedStatements() throws Exception {
+        long statements = countStatements(patch("/tasks/{id}", task.getId())
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType("application/merge-patch+json")
+                .content("{\"description\":\"Alterada\",\"assignedUserId\":" + assigneeIds.get(0) + "}"));
+
+        assertThat(statements).isLessThanOrEqualTo(MAX_STATEMENTS_TASK_PATCH);
+    }
+
+    @Test
+    @DisplayName("Criação em lote deve agrupar os INSERTs e buscar responsáveis em uma consulta")
+    void createBatch_BoundedStatements() throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < TASK_COUNT; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"title\":\"Lote ").append(i)
+                    .append("\",\"assignedUserId\":").append(assigneeIds.get(i)).append('}');
+        }
+        body.append(']');
+
+        long statements = countStatements(post("/projects/{projectId}/tasks:batch", project.getId())
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body.toString()));
+
+        assertThat(statements).isLessThanOrEqualTo(MAX_STATEMENTS_TASK_BATCH);
+    }
+
+    @Test
+    @DisplayName("Alteração de status em massa deve avançar os contadores e atualizar em um único UPDATE")
+    void bulkUpdateStatus_BoundedStatements() throws Exception {
+        long statements = countStatements(post("/tasks:bulk-status")
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"filter\":{\"projectId\":" + project.getId() + "},\"status\":\"DONE\"}"));
+
+        assertThat(statements).isLessThanOrEqualTo(MAX_STATEMENTS_TASK_BULK_STATUS);
+    }
+
+    private long countStatements(RequestBuilder request) throws Exception {
+        // aquece o cache de usuários autenticados para medir só o trabalho do endpoint
+        mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+
+        statistics.clear();
+        mockMvc.perform(request)
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(jsonPath("$").exists());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskmanager.exception;
+
+import com.taskmanager.entity.Task;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final ObjectOptimisticLockingFailureException conflict =
+            new ObjectOptimisticLockingFailureException(Task.class, 1L);
+
+    @Test
+    @DisplayName("Conflito de versão com If-Match deve responder 412")
+    void optimisticLockingFailure_WithIfMatch() {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/tasks/1");
+        request.addHeader(HttpHeaders.IF_MATCH, "\"abc\"");
+
+        var response = handler.handleOptimisticLockingFailure(conflict, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @Test
+    @DisplayName("Conflito de versão sem If-Match deve responder 409")
+    void optimisticLockingFailure_WithoutIfMatch() {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/tasks/1");
+
+        var response = handler.handleOptimisticLockingFailure(conflict, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getStatus()).isEqualTo(409);
+    }
+}
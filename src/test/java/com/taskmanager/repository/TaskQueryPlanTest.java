@@ -0,0 +1,276 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.TaskStatus;
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.criteria.ValueHandlingMode;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Confere com EXPLAIN, em um PostgreSQL real, que a listagem filtrada de tarefas
+ * usa os índices compostos, por projeto ou por responsável, também nas páginas
+ * seguintes do cursor, e que a busca textual usa o índice GIN. O SQL explicado
+ * é o que o Hibernate gera para {@link TaskRepositoryCustom#findResponsePage},
+ * capturado com os valores embutidos no texto.
+ *
+ * <p>Roda apenas com TEST_POSTGRES_URL apontando para um banco de testes (por
+ * exemplo, o do docker-compose); as migrações são aplicadas em um schema
+ * próprio, removido ao final.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+class TaskQueryPlanTest {
+
+    private static final String SCHEMA = "task_query_plan_test";
+    private static final int PAGE_SIZE = 51;
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        String url = System.getenv("TEST_POSTGRES_URL");
+        registry.add("spring.datasource.url",
+                () -> url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA);
+        registry.add("spring.datasource.username",
+                () -> Objects.requireNonNullElse(System.getenv("TEST_POSTGRES_USERNAME"), "postgres"));
+        registry.add("spring.datasource.password",
+                () -> Objects.requireNonNullElse(System.getenv("TEST_POSTGRES_PASSWORD"), "postgres"));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.schemas", () -> SCHEMA);
+        registry.add("spring.flyway.clean-disabled", () -> "false");
+        registry.add("task.search.full-text", () -> "true");
+    }
+
+    @TestConfiguration
+    static class PlanCaptureConfig {
+
+        /**
+         * Valores dos critérios embutidos no SQL, para que o texto capturado possa
+         * ser explicado sem reconstruir os parâmetros.
+         */
+        @Bean
+        HibernatePropertiesCustomizer captureStatements() {
+            StatementInspector inspector = sql -> {
+                List<String> statements = CAPTURED.get();
+                if (statements != null) {
+                    statements.add(sql);
+                }
+                return sql;
+            };
+            return properties -> {
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+                properties.put(AvailableSettings.CRITERIA_VALUE_HANDLING_MODE, ValueHandlingMode.INLINE);
+            };
+        }
+
+        @Bean
+        FlywayMigrationStrategy cleanMigrate() {
+            return flyway -> {
+                flyway.clean();
+                flyway.migrate();
+            };
+        }
+    }
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Flyway flyway;
+
+    private long projectId;
+    private long userId;
+
+    @BeforeAll
+    void setUp() {
+        jdbcTemplate.execute("INSERT INTO users (name, email, password) VALUES ('Dono', 'dono@plano.test', 'x')");
+        jdbcTemplate.execute("""
+                INSERT INTO projects (name, owner_id)
+                SELECT 'Projeto ' || g, (SELECT id FROM users) FROM generate_series(1, 20) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO tasks (title, status, deadline, project_id, assigned_user_id, created_at)
+                SELECT 'Tarefa ' || g,
+                       (ARRAY['TODO', 'DOING', 'DONE'])[1 + g % 3],
+                       CASE WHEN g % 10 = 0 THEN NULL ELSE CURRENT_DATE + (g % 90) END,
+                       (SELECT min(id) FROM projects) + g % 20,
+                       CASE WHEN g % 50 = 0 THEN (SELECT id FROM users) END,
+                       now() - g * INTERVAL '1 minute'
+                FROM generate_series(1, 50000) g
+                """);
+        jdbcTemplate.execute("ANALYZE");
+
+        projectId = jdbcTemplate.queryForObject("SELECT min(id) FROM projects", Long.class);
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users", Long.class);
+    }
+
+    @AfterAll
+    void tearDown() {
+        flyway.clean();
+    }
+
+    @Test
+    @DisplayName("Filtro por status com ordenação por prazo deve usar idx_tasks_project_status_deadline")
+    void statusOrderedByDeadline() {
+        String plan = explainPage(byProject().status(TaskStatus.DOING), TaskSort.DEADLINE_ASC, null, null);
+
+        assertThat(plan).contains("idx_tasks_project_status_deadline");
+    }
+
+    @Test
+    @DisplayName("Filtro por status com ordenação padrão deve usar idx_tasks_project_status_created")
+    void statusOrderedByCreatedAt() {
+        String plan = explainPage(byProject().status(TaskStatus.TODO), TaskSort.CREATED_AT_ASC, null, null);
+
+        assertThat(plan).contains("idx_tasks_project_status_created");
+    }
+
+    @Test
+    @DisplayName("Intervalo de prazo deve usar idx_tasks_project_deadline")
+    void deadlineRange() {
+        String plan = explainPage(byProject()
+                        .deadlineFrom(LocalDate.now().plusDays(10))
+                        .deadlineTo(LocalDate.now().plusDays(20)),
+                TaskSort.DEADLINE_ASC, null, null);
+
+        assertThat(plan).contains("idx_tasks_project_deadline");
+    }
+
+    @Test
+    @DisplayName("Listagem sem filtros deve seguir idx_tasks_project_created sem ordenar em memória")
+    void noFilters() {
+        String plan = explainPage(byProject(), TaskSort.CREATED_AT_ASC, null, null);
+
+        assertThat(plan).contains("idx_tasks_project_created").doesNotContain("Sort Key");
+    }
+
+    @Test
+    @DisplayName("Página seguinte do cursor deve começar a varredura na posição do cursor")
+    void cursorPage() {
+        String plan = explainPage(byProject(), TaskSort.CREATED_AT_ASC, LocalDateTime.now().minusDays(10), 1000L);
+
+        assertThat(plan).contains("idx_tasks_project_created", "created_at >=").doesNotContain("Sort Key");
+    }
+
+    @Test
+    @DisplayName("Página seguinte do cursor em ordem decrescente deve limitar a varredura pelo cursor")
+    void cursorPageDescending() {
+        String plan = explainPage(byProject(), TaskSort.CREATED_AT_DESC, LocalDateTime.now().minusDays(10), 1000L);
+
+        assertThat(plan).contains("idx_tasks_project_created", "created_at <=").doesNotContain("Sort Key");
+    }
+
+    @Test
+    @DisplayName("Ordenação por prazo decrescente deve percorrer idx_tasks_project_deadline sem ordenar em memória")
+    void deadlineDescending() {
+        String plan = explainPage(byProject(), TaskSort.DEADLINE_DESC, null, null);
+
+        assertThat(plan).contains("idx_tasks_project_deadline").doesNotContain("Sort Key");
+    }
+
+    @Test
+    @DisplayName("Página seguinte do cursor por prazo deve limitar a varredura pelo cursor")
+    void deadlineCursorPage() {
+        String plan = explainPage(byProject(), TaskSort.DEADLINE_DESC, LocalDate.now().plusDays(45), 1000L);
+
+        assertThat(plan).contains("idx_tasks_project_deadline", "deadline <=").doesNotContain("Sort Key");
+    }
+
+    @Test
+    @DisplayName("Página seguinte do cursor entre as tarefas sem prazo deve usar o trecho de nulos do índice")
+    void deadlineCursorPageInNulls() {
+        String plan = explainPage(byProject(), TaskSort.DEADLINE_ASC, null, 1000L);
+
+        assertThat(plan).contains("idx_tasks_project_deadline", "deadline IS NULL").doesNotContain("Sort Key");
+    }
+
+    @Test
+    @DisplayName("Minhas tarefas por status deve usar idx_tasks_assignee_status_deadline sem ordenar em memória")
+    void assignedByStatusOrderedByDeadline() {
+        String plan = explainPage(TaskFilter.builder().assignedUserId(userId).status(TaskStatus.TODO),
+                TaskSort.DEADLINE_ASC, null, null);
+
+        assertThat(plan).contains("idx_tasks_assignee_status_deadline").doesNotContain("Sort Key");
+    }
+
+    @Test
+    @DisplayName("Busca textual deve usar o índice GIN idx_tasks_search_vector")
+    void fullTextSearch() {
+        String plan = explain("""
+                SELECT t.id, ts_rank(t.search_vector, q.query) AS rank
+                FROM tasks t
+                JOIN projects p ON p.id = t.project_id
+                CROSS JOIN websearch_to_tsquery('portuguese', ?) AS q(query)
+                WHERE p.owner_id = ? AND p.deleted_at IS NULL AND t.search_vector @@ q.query
+                ORDER BY rank DESC, t.id
+                LIMIT 20
+                """, "tarefa 4242", userId);
+
+        assertThat(plan).contains("idx_tasks_search_vector");
+    }
+
+    private TaskFilter.TaskFilterBuilder byProject() {
+        return TaskFilter.builder().projectId(projectId);
+    }
+
+    /**
+     * Plano de cada comando que a listagem executa. Com os critérios embutidos,
+     * os únicos parâmetros que sobram no SQL são o do limite.
+     */
+    private String explainPage(TaskFilter.TaskFilterBuilder filter, TaskSort sort, Object afterValue, Long afterId) {
+        List<String> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            taskRepository.findResponsePage(filter.build(), sort, afterValue, afterId, PAGE_SIZE);
+        } finally {
+            CAPTURED.remove();
+        }
+        assertThat(statements).isNotEmpty();
+
+        return statements.stream()
+                .map(sql -> {
+                    Object[] limits = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+                    Arrays.fill(limits, PAGE_SIZE);
+                    return explain(sql, limits);
+                })
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String explain(String sql, Object... params) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, params));
+    }
+}
@@ -0,0 +1,247 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.response.TaskResponse;
+import com.taskmanager.dto.response.TaskSearchResponse;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class TaskRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        owner = entityManager.persist(User.builder()
+                .name("João Silva")
+                .email("joao@email.com")
+                .password("encodedPassword")
+                .build());
+
+        project = entityManager.persist(Project.builder()
+                .name("Projeto Teste")
+                .owner(owner)
+                .build());
+
+        for (int i = 1; i <= 5; i++) {
+            entityManager.persist(Task.builder()
+                    .title("Tarefa " + i)
+                    .project(project)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve percorrer as tarefas do projeto por cursor sem repetir itens")
+    void findResponsePage_WalksAllPages() {
+        TaskFilter filter = TaskFilter.builder().projectId(project.getId()).build();
+        List<TaskResponse> visited = new ArrayList<>();
+
+        List<TaskResponse> page = taskRepository.findResponsePage(filter, TaskSort.CREATED_AT_ASC, null, null, 2);
+        while (!page.isEmpty()) {
+            visited.addAll(page);
+            TaskResponse last = page.get(page.size() - 1);
+            page = taskRepository.findResponsePage(
+                    filter, TaskSort.CREATED_AT_ASC, last.getCreatedAt(), last.getId(), 2);
+        }
+
+        assertThat(visited)
+                .extracting(TaskResponse::getTitle)
+                .containsExactly("Tarefa 1", "Tarefa 2", "Tarefa 3", "Tarefa 4", "Tarefa 5");
+    }
+
+    @Test
+    @DisplayName("Deve ordenar por prazo com tarefas sem prazo no fim da ordem crescente e no início da decrescente")
+    void findResponsePage_DeadlineSortNulls() {
+        LocalDate today = LocalDate.now();
+        for (Task task : taskRepository.findByProjectId(project.getId())) {
+            switch (task.getTitle()) {
+                case "Tarefa 1" -> task.setDeadline(today.plusDays(3));
+                case "Tarefa 3" -> task.setDeadline(today.plusDays(1));
+                case "Tarefa 4" -> task.setDeadline(today.plusDays(3));
+                default -> task.setDeadline(null);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        TaskFilter filter = TaskFilter.builder().projectId(project.getId()).build();
+        for (TaskSort sort : List.of(TaskSort.DEADLINE_ASC, TaskSort.DEADLINE_DESC)) {
+            List<TaskResponse> visited = new ArrayList<>();
+            List<TaskResponse> page = taskRepository.findResponsePage(filter, sort, null, null, 2);
+            while (!page.isEmpty()) {
+                visited.addAll(page);
+                TaskResponse last = page.get(page.size() - 1);
+                page = taskRepository.findResponsePage(filter, sort, last.getDeadline(), last.getId(), 2);
+            }
+
+            List<String> expected = sort == TaskSort.DEADLINE_ASC
+                    ? List.of("Tarefa 3", "Tarefa 1", "Tarefa 4", "Tarefa 2", "Tarefa 5")
+                    : List.of("Tarefa 5", "Tarefa 2", "Tarefa 4", "Tarefa 1", "Tarefa 3");
+            assertThat(visited).extracting(TaskResponse::getTitle).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve combinar filtros de status e intervalo de prazo")
+    void findResponsePage_Filters() {
+        LocalDate today = LocalDate.now();
+        for (Task task : taskRepository.findByProjectId(project.getId())) {
+            task.setDeadline(today.plusDays(Long.parseLong(task.getTitle().substring(7))));
+            if (task.getTitle().equals("Tarefa 2") || task.getTitle().equals("Tarefa 4")) {
+                task.setStatus(TaskStatus.DOING);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        TaskFilter filter = TaskFilter.builder()
+                .projectId(project.getId())
+                .status(TaskStatus.DOING)
+                .deadlineFrom(today.plusDays(3))
+                .deadlineTo(today.plusDays(5))
+                .build();
+
+        assertThat(taskRepository.findResponsePage(filter, TaskSort.CREATED_AT_ASC, null, null, 10))
+                .extracting(TaskResponse::getTitle)
+                .containsExactly("Tarefa 4");
+    }
+
+    @Test
+    @DisplayName("Deve alterar status em massa apenas nas tarefas do dono que atendem ao filtro")
+    void updateStatus_OwnerScoped() {
+        User otherOwner = entityManager.persist(User.builder()
+                .name("Maria Souza")
+                .email("maria@email.com")
+                .password("encodedPassword")
+                .build());
+        Project otherProject = entityManager.persist(Project.builder()
+                .name("Outro Projeto")
+                .owner(otherOwner)
+                .build());
+        entityManager.persist(Task.builder()
+                .title("Tarefa de outro dono")
+                .project(otherProject)
+                .build());
+        entityManager.flush();
+
+        int updated = taskRepository.updateStatus(TaskFilter.builder()
+                .ownerId(owner.getId())
+                .status(TaskStatus.TODO)
+                .build(), TaskStatus.DONE);
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(5);
+        assertThat(taskRepository.findByProjectIdAndStatus(project.getId(), TaskStatus.DONE)).hasSize(5);
+        assertThat(taskRepository.findByProjectIdAndStatus(otherProject.getId(), TaskStatus.TODO)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Projeto excluído logicamente e suas tarefas não devem aparecer nas leituras")
+    void softDeletedProject_HiddenFromReads() {
+        Long taskId = taskRepository.findByProjectId(project.getId()).get(0).getId();
+
+        int deleted = projectRepository.softDeleteByIdAndOwnerId(project.getId(), owner.getId(), LocalDateTime.now());
+        entityManager.clear();
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(projectRepository.existsById(project.getId())).isFalse();
+        assertThat(projectRepository.findResponsesByOwnerId(owner.getId())).isEmpty();
+        assertThat(taskRepository.findByProjectId(project.getId())).isEmpty();
+        assertThat(taskRepository.existsById(taskId)).isFalse();
+        assertThat(taskRepository.findResponseById(taskId)).isEmpty();
+        assertThat(projectRepository.findDeletedIds(10)).containsExactly(project.getId());
+    }
+
+    @Test
+    @DisplayName("Busca por LIKE deve priorizar o título, destacar o termo e respeitar o dono")
+    void likeSearch_RanksTitleFirstAndHighlights() {
+        Project otherProject = entityManager.persist(Project.builder()
+                .name("Projeto de outro")
+                .owner(entityManager.persist(User.builder()
+                        .name("Maria")
+                        .email("maria@email.com")
+                        .password("encodedPassword")
+                        .build()))
+                .build());
+        entityManager.persist(Task.builder()
+                .title("Revisar contrato")
+                .description("Conferir cláusulas do Login único antes da assinatura")
+                .project(project)
+                .build());
+        entityManager.persist(Task.builder()
+                .title("Tela de login")
+                .project(project)
+                .build());
+        entityManager.persist(Task.builder()
+                .title("Login do outro dono")
+                .project(otherProject)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TaskSearchResponse> results = new LikeTaskSearchRepository(entityManager.getEntityManager())
+                .search(owner.getId(), "LOGIN", 10);
+
+        assertThat(results).extracting(TaskSearchResponse::getTitle)
+                .containsExactly("Tela de login", "Revisar contrato");
+        assertThat(results.get(0).getSnippet()).isEqualTo("Tela de <mark>login</mark>");
+        assertThat(results.get(1).getSnippet()).contains("cláusulas do <mark>Login</mark> único");
+        assertThat(results.get(0).getRank()).isGreaterThan(results.get(1).getRank());
+    }
+
+    @Test
+    @DisplayName("Busca por LIKE deve escapar o HTML do texto e destacar o termo com a caixa original")
+    void likeSearch_EscapesSnippet() {
+        entityManager.persist(Task.builder()
+                .title("<script>alert(1)</script> Tela de LOGIN & senha")
+                .project(project)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TaskSearchResponse> results = new LikeTaskSearchRepository(entityManager.getEntityManager())
+                .search(owner.getId(), "login", 10);
+
+        assertThat(results).singleElement()
+                .extracting(TaskSearchResponse::getSnippet)
+                .isEqualTo("&lt;script&gt;alert(1)&lt;/script&gt; Tela de <mark>LOGIN</mark> &amp; senha");
+    }
+
+    @Test
+    @DisplayName("Trecho do PostgreSQL deve ser escapado antes de virar destaque")
+    void toHtmlSnippet_EscapesBeforeHighlighting() {
+        String headline = "<b>x</b> " + TaskSearchRepository.MATCH_START + "login" + TaskSearchRepository.MATCH_END;
+
+        assertThat(TaskSearchRepository.toHtmlSnippet(headline)).isEqualTo("&lt;b&gt;x&lt;/b&gt; <mark>login</mark>");
+    }
+}
@@ -0,0 +1,99 @@
+package com.taskmanager.security;
+
+import com.taskmanager.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve delegar hash e verificação ao encoder original")
+    void encodeAndMatches_Delegates() {
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(), 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        String encoded = encoder.encode("senha123");
+
+        assertThat(encoded).isEqualTo("{plain}senha123");
+        assertThat(encoder.matches("senha123", encoded)).isTrue();
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve falhar imediatamente quando a fila estiver cheia")
+    void encode_QueueFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, Duration.ofSeconds(7), meterRegistry);
+
+        CompletableFuture.runAsync(() -> encoder.encode("ocupa-thread"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> encoder.encode("ocupa-fila"));
+        waitForQueueDepth(1);
+
+        assertThatThrownBy(() -> encoder.encode("rejeitada"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .extracting(ex -> ((ServiceUnavailableException) ex).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(7));
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("password.hash.queue.depth").gauge().value() < depth) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Fila não atingiu a profundidade esperada");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static class PlainEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    private class BlockingEncoder extends PlainEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.encode(rawPassword);
+        }
+    }
+}
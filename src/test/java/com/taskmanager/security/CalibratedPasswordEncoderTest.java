@@ -0,0 +1,44 @@
+package com.taskmanager.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalibratedPasswordEncoderTest {
+
+    @Test
+    @DisplayName("Deve gravar o custo alvo no hash gerado")
+    void encode_UsesTargetStrength() {
+        var encoder = new CalibratedPasswordEncoder(5);
+
+        String encoded = encoder.encode("senha123");
+
+        assertThat(encoded).startsWith("$2a$05$");
+        assertThat(encoder.matches("senha123", encoded)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve pedir recálculo de hash mais fraco ou mais caro que o alvo")
+    void upgradeEncoding_DifferentStrength() {
+        var encoder = new CalibratedPasswordEncoder(5);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("senha123"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("senha123"))).isTrue();
+        assertThat(encoder.upgradeEncoding("hash-em-outro-formato")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve respeitar os limites de custo na calibração")
+    void calibrate_WithinBounds() {
+        var generous = CalibratedPasswordEncoder.calibrate(Duration.ofSeconds(10), 4, 5);
+        var strict = CalibratedPasswordEncoder.calibrate(Duration.ofNanos(1), 4, 6);
+
+        assertThat(generous.getStrength()).isEqualTo(5);
+        assertThat(strict.getStrength()).isEqualTo(4);
+    }
+}
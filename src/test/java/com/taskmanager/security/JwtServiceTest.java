@@ -0,0 +1,97 @@
+package com.taskmanager.security;
+
+import com.taskmanager.entity.User;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tdGVzdGluZy0yNTYtYml0cw==";
+
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = createService(86400000L);
+
+        user = User.builder()
+                .id(1L)
+                .name("João Silva")
+                .email("joao@email.com")
+                .password("encodedPassword")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve verificar token e expor claims")
+    void verify_Success() {
+        String token = jwtService.generateToken(user);
+
+        VerifiedToken verified = jwtService.verify(token);
+
+        assertThat(verified.getSubject()).isEqualTo("joao@email.com");
+        assertThat(verified.getExpiration()).isAfter(verified.getIssuedAt());
+        assertThat(verified.isIssuedFor("joao@email.com")).isTrue();
+        assertThat(verified.isIssuedFor("outro@email.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve embutir id, nome e perfis do usuário no token de acesso")
+    void verify_PrincipalClaims() {
+        String token = jwtService.generateToken(user);
+
+        VerifiedToken verified = jwtService.verify(token);
+
+        assertThat(verified.hasPrincipalClaims()).isTrue();
+        assertThat(verified.getUserId()).isEqualTo(1L);
+        assertThat(verified.getName()).isEqualTo("João Silva");
+        assertThat(verified.getAuthorities()).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("Refresh token não deve carregar claims do usuário")
+    void verify_RefreshTokenWithoutPrincipalClaims() {
+        String token = jwtService.generateRefreshToken(user);
+
+        VerifiedToken verified = jwtService.verify(token);
+
+        assertThat(verified.hasPrincipalClaims()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token com assinatura inválida")
+    void verify_InvalidSignature() {
+        String token = jwtService.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThatThrownBy(() -> jwtService.verify(tampered))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token expirado")
+    void verify_Expired() {
+        JwtService expiredService = createService(-1000L);
+        String token = expiredService.generateToken(user);
+
+        assertThatThrownBy(() -> jwtService.verify(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    private JwtService createService(long expiration) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secretKey", SECRET);
+        ReflectionTestUtils.setField(service, "jwtExpiration", expiration);
+        ReflectionTestUtils.setField(service, "refreshExpiration", expiration);
+        service.init();
+        return service;
+    }
+}
@@ -0,0 +1,80 @@
+package com.taskmanager.security;
+
+import com.taskmanager.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrincipalCacheTest {
+
+    private PrincipalCache principalCache;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger loads;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(100, Duration.ofMinutes(5), meterRegistry);
+        loads = new AtomicInteger();
+
+        user = User.builder()
+                .id(1L)
+                .name("João Silva")
+                .email("joao@email.com")
+                .password("encodedPassword")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve consultar o repositório apenas uma vez para o mesmo email")
+    void get_CachesLoadedUser() {
+        var first = principalCache.get("joao@email.com", this::load);
+        var second = principalCache.get("joao@email.com", this::load);
+
+        assertThat(first).isPresent();
+        assertThat(second.get().getId()).isEqualTo(1L);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve recarregar usuário após invalidação por email")
+    void evict_ByEmail() {
+        principalCache.get("joao@email.com", this::load);
+
+        principalCache.evict("joao@email.com");
+        principalCache.get("joao@email.com", this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar usuário inexistente")
+    void get_MissingUserNotCached() {
+        var result = principalCache.get("nao@existe.com", email -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertThat(result).isEmpty();
+        principalCache.get("nao@existe.com", email -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private Optional<User> load(String email) {
+        loads.incrementAndGet();
+        return Optional.of(user);
+    }
+}
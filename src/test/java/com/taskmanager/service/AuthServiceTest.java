@@ -0,0 +1,93 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.request.LoginRequest;
+import com.taskmanager.entity.User;
+import com.taskmanager.mapper.UserMapper;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.security.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private UserSuggestionIndex userSuggestionIndex;
+
+    @InjectMocks
+    private AuthService authService;
+
+    private User user;
+    private LoginRequest loginRequest;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(1L)
+                .name("João Silva")
+                .email("joao@email.com")
+                .password("encodedPassword")
+                .build();
+
+        loginRequest = LoginRequest.builder()
+                .email("joao@email.com")
+                .password("senha123")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve gerar tokens a partir do usuário autenticado sem nova consulta")
+    void login_UsesAuthenticatedPrincipal() {
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        when(jwtService.generateToken(user)).thenReturn("access-token");
+        when(jwtService.generateRefreshToken(user)).thenReturn("refresh-token");
+        when(jwtService.getExpirationTime()).thenReturn(86400L);
+
+        var result = authService.login(loginRequest);
+
+        assertThat(result.getAccessToken()).isEqualTo("access-token");
+        assertThat(result.getRefreshToken()).isEqualTo("refresh-token");
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Deve propagar falha de autenticação")
+    void login_BadCredentials() {
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new BadCredentialsException("Bad credentials"));
+
+        assertThatThrownBy(() -> authService.login(loginRequest))
+                .isInstanceOf(BadCredentialsException.class);
+        verifyNoInteractions(jwtService);
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskmanager.service;
+
+import com.taskmanager.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("Deve ler campos entre aspas com vírgulas, aspas e quebras de linha")
+    void readRecord_QuotedFields() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader(
+                "title,description\r\n\"a, b\",\"diz \"\"oi\"\"\nsegunda linha\"\r\n\nsimples,\n"));
+
+        assertThat(reader.readRecord()).containsExactly("title", "description");
+        assertThat(reader.getRecordLine()).isEqualTo(1);
+
+        assertThat(reader.readRecord()).containsExactly("a, b", "diz \"oi\"\nsegunda linha");
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+
+        assertThat(reader.readRecord()).containsExactly("simples", "");
+        assertThat(reader.getRecordLine()).isEqualTo(5);
+
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve aceitar último registro sem quebra de linha")
+    void readRecord_NoTrailingNewline() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("title\nfinal"));
+
+        assertThat(reader.readRecord()).containsExactly("title");
+        assertThat(reader.readRecord()).containsExactly("final");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar aspas não fechadas")
+    void readRecord_UnterminatedQuote() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("title\n\"sem fim\n"));
+        reader.readRecord();
+
+        assertThatThrownBy(reader::readRecord)
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("aspas não fechadas");
+    }
+}
@@ -0,0 +1,152 @@
+package com.taskmanager.service;
+
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.TaskTombstone;
+import com.taskmanager.entity.User;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskTombstoneRepository;
+import com.taskmanager.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class DeletionPurgeWorkerTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    private DeletionPurgeWorker worker;
+    private User owner;
+    private User assignee;
+    private Project project;
+    private Task otherTask;
+
+    @BeforeEach
+    void setUp() {
+        worker = new DeletionPurgeWorker(projectRepository, userRepository, taskRepository, taskTombstoneRepository,
+                10, 2, Duration.ZERO, Duration.ofDays(30));
+
+        owner = entityManager.persist(User.builder()
+                .name("João Silva")
+                .email("joao@email.com")
+                .password("encodedPassword")
+                .build());
+        assignee = entityManager.persist(User.builder()
+                .name("Maria Souza")
+                .email("maria@email.com")
+                .password("encodedPassword")
+                .build());
+
+        project = entityManager.persist(Project.builder()
+                .name("Projeto Grande")
+                .owner(owner)
+                .build());
+        for (int i = 1; i <= 5; i++) {
+            entityManager.persist(Task.builder()
+                    .title("Tarefa " + i)
+                    .project(project)
+                    .build());
+        }
+
+        Project assigneeProject = entityManager.persist(Project.builder()
+                .name("Projeto da Maria")
+                .owner(assignee)
+                .build());
+        otherTask = entityManager.persist(Task.builder()
+                .title("Tarefa atribuída")
+                .project(assigneeProject)
+                .assignedUser(owner)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve expurgar projeto excluído e suas tarefas em lotes")
+    void purge_DeletedProject() {
+        projectRepository.softDeleteByIdAndOwnerId(project.getId(), owner.getId(), LocalDateTime.now());
+
+        worker.purge();
+        entityManager.clear();
+
+        assertThat(projectRepository.findDeletedIds(10)).isEmpty();
+        assertThat(taskRepository.count()).isEqualTo(1);
+        assertThat(userRepository.existsById(owner.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve expurgar registros de exclusão após a retenção e junto com o projeto")
+    void purge_Tombstones() {
+        LocalDateTime now = LocalDateTime.now();
+        for (long taskId = 1; taskId <= 3; taskId++) {
+            entityManager.persist(TaskTombstone.builder()
+                    .taskId(taskId)
+                    .projectId(project.getId())
+                    .deletedAt(now.minusDays(31))
+                    .build());
+        }
+        TaskTombstone recent = entityManager.persist(TaskTombstone.builder()
+                .taskId(4L)
+                .projectId(project.getId())
+                .deletedAt(now)
+                .build());
+        TaskTombstone otherProject = entityManager.persist(TaskTombstone.builder()
+                .taskId(5L)
+                .projectId(otherTask.getProject().getId())
+                .deletedAt(now)
+                .build());
+        entityManager.flush();
+
+        worker.purge();
+        assertThat(taskTombstoneRepository.findAll())
+                .extracting(TaskTombstone::getId)
+                .containsExactlyInAnyOrder(recent.getId(), otherProject.getId());
+
+        projectRepository.softDeleteByIdAndOwnerId(project.getId(), owner.getId(), now);
+        worker.purge();
+        assertThat(taskTombstoneRepository.findAll())
+                .extracting(TaskTombstone::getId)
+                .containsExactly(otherProject.getId());
+    }
+
+    @Test
+    @DisplayName("Deve expurgar usuário excluído depois dos seus projetos e desatribuir suas tarefas")
+    void purge_DeletedUser() {
+        LocalDateTime now = LocalDateTime.now();
+        userRepository.softDeleteById(owner.getId(), now);
+        projectRepository.softDeleteByOwnerId(owner.getId(), now);
+
+        worker.purge();
+        entityManager.clear();
+
+        assertThat(userRepository.findPurgeableIds(10)).isEmpty();
+        assertThat(userRepository.count()).isEqualTo(1);
+        assertThat(taskRepository.findById(otherTask.getId()))
+                .hasValueSatisfying(task -> assertThat(task.getAssignedUser()).isNull());
+    }
+}
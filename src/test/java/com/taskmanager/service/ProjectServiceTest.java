@@ -1,9 +1,11 @@
 package com.taskmanager.service;
 
+import com.taskmanager.dto.request.ProjectPatchRequest;
 import com.taskmanager.dto.request.ProjectRequest;
 import com.taskmanager.dto.response.ProjectResponse;
 import com.taskmanager.entity.Project;
 import com.taskmanager.entity.User;
+import com.taskmanager.exception.PreconditionFailedException;
 import com.taskmanager.exception.ResourceNotFoundException;
 import com.taskmanager.exception.UnauthorizedException;
 import com.taskmanager.mapper.ProjectMapper;
@@ -59,6 +61,7 @@ class ProjectServiceTest {
                 .description("Descrição do projeto")
                 .owner(user)
                 .createdAt(LocalDateTime.now())
+                .version(0L)
                 .build();
 
         projectResponse = ProjectResponse.builder()
@@ -93,14 +96,14 @@ class ProjectServiceTest {
     @Test
     @DisplayName("Deve listar projetos do usuário")
     void findAllByOwner_Success() {
-        when(projectRepository.findByOwnerId(1L)).thenReturn(List.of(project));
-        when(projectMapper.toResponse(project)).thenReturn(projectResponse);
+        when(projectRepository.findResponsesByOwnerId(1L)).thenReturn(List.of(projectResponse));
 
         var result = projectService.findAllByOwner(user);
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getName()).isEqualTo("Projeto Teste");
-        verify(projectRepository).findByOwnerId(1L);
+        verify(projectRepository).findResponsesByOwnerId(1L);
+        verifyNoInteractions(projectMapper);
     }
 
     @Test
@@ -126,7 +129,7 @@ class ProjectServiceTest {
     @Test
     @DisplayName("Deve buscar projeto e validar ownership")
     void findByIdResponse_Success() {
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(projectRepository.findByIdAndOwnerId(1L, 1L)).thenReturn(Optional.of(project));
         when(projectMapper.toResponse(project)).thenReturn(projectResponse);
 
         var result = projectService.findByIdResponse(1L, user);
@@ -140,13 +143,24 @@ class ProjectServiceTest {
     void findByIdResponse_Unauthorized() {
         var otherUser = User.builder().id(2L).build();
 
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(projectRepository.findByIdAndOwnerId(1L, 2L)).thenReturn(Optional.empty());
+        when(projectRepository.existsById(1L)).thenReturn(true);
 
         assertThatThrownBy(() -> projectService.findByIdResponse(1L, otherUser))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessage("Você não tem permissão para acessar este projeto");
     }
 
+    @Test
+    @DisplayName("Deve diferenciar projeto inexistente de projeto de outro usuário")
+    void findByIdResponse_NotFound() {
+        when(projectRepository.findByIdAndOwnerId(99L, 1L)).thenReturn(Optional.empty());
+        when(projectRepository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> projectService.findByIdResponse(99L, user))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
     @Test
     @DisplayName("Deve atualizar projeto com sucesso")
     void update_Success() {
@@ -155,26 +169,60 @@ class ProjectServiceTest {
                 .description("Nova descrição")
                 .build();
 
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(projectRepository.save(any(Project.class))).thenReturn(project);
+        when(projectRepository.findByIdAndOwnerId(1L, 1L)).thenReturn(Optional.of(project));
+        when(projectRepository.saveAndFlush(any(Project.class))).thenReturn(project);
         when(projectMapper.toResponse(any(Project.class))).thenReturn(projectResponse);
 
-        var result = projectService.update(1L, updateRequest, user);
+        var result = projectService.update(1L, updateRequest, null, user);
 
-        assertThat(result).isNotNull();
+        assertThat(result.body()).isNotNull();
+        assertThat(result.eTag()).isNotBlank();
         verify(projectMapper).updateEntity(project, updateRequest);
-        verify(projectRepository).save(project);
+        verify(projectRepository).saveAndFlush(project);
+    }
+
+    @Test
+    @DisplayName("Deve recusar atualização de projeto com If-Match de outra versão")
+    void update_IfMatchStale() {
+        var updateRequest = ProjectRequest.builder()
+                .name("Projeto Atualizado")
+                .build();
+
+        when(projectRepository.findByIdAndOwnerId(1L, 1L)).thenReturn(Optional.of(project));
+
+        assertThatThrownBy(() -> projectService.update(1L, updateRequest, "\"versao-antiga\"", user))
+                .isInstanceOf(PreconditionFailedException.class);
+
+        verify(projectMapper, never()).updateEntity(any(), any());
+        verify(projectRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Merge patch deve alterar só os campos enviados")
+    void patch_OnlyPresentFields() {
+        var patch = new ProjectPatchRequest();
+        patch.setName("Projeto Renomeado");
+
+        when(projectRepository.findByIdAndOwnerId(1L, 1L)).thenReturn(Optional.of(project));
+        when(projectRepository.saveAndFlush(project)).thenReturn(project);
+        when(projectMapper.toResponse(project)).thenReturn(projectResponse);
+
+        var result = projectService.patch(1L, patch, null, user);
+
+        assertThat(result.body()).isEqualTo(projectResponse);
+        assertThat(project.getName()).isEqualTo("Projeto Renomeado");
+        assertThat(project.getDescription()).isEqualTo("Descrição do projeto");
     }
 
     @Test
     @DisplayName("Deve excluir projeto com sucesso")
     void delete_Success() {
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        doNothing().when(projectRepository).delete(project);
+        when(projectRepository.softDeleteByIdAndOwnerId(eq(1L), eq(1L), any(LocalDateTime.class))).thenReturn(1);
 
         projectService.delete(1L, user);
 
-        verify(projectRepository).delete(project);
+        verify(projectRepository).softDeleteByIdAndOwnerId(eq(1L), eq(1L), any(LocalDateTime.class));
+        verify(projectRepository, never()).delete(any(Project.class));
     }
 
     @Test
@@ -182,7 +230,8 @@ class ProjectServiceTest {
     void delete_Unauthorized() {
         var otherUser = User.builder().id(2L).build();
 
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(projectRepository.softDeleteByIdAndOwnerId(eq(1L), eq(2L), any(LocalDateTime.class))).thenReturn(0);
+        when(projectRepository.existsById(1L)).thenReturn(true);
 
         assertThatThrownBy(() -> projectService.delete(1L, otherUser))
                 .isInstanceOf(UnauthorizedException.class);
@@ -1,33 +1,51 @@
 package com.taskmanager.service;
 
+import com.taskmanager.dto.request.AssignedTaskFilterRequest;
+import com.taskmanager.dto.request.TaskBulkStatusRequest;
+import com.taskmanager.dto.request.TaskFilterRequest;
+import com.taskmanager.dto.request.TaskPatchRequest;
 import com.taskmanager.dto.request.TaskRequest;
+import com.taskmanager.dto.request.TaskSelectionRequest;
 import com.taskmanager.dto.request.TaskStatusRequest;
 import com.taskmanager.dto.response.TaskResponse;
+import com.taskmanager.dto.response.TaskSearchResponse;
 import com.taskmanager.entity.Project;
 import com.taskmanager.entity.Task;
 import com.taskmanager.entity.TaskStatus;
 import com.taskmanager.entity.User;
 import com.taskmanager.exception.BusinessException;
+import com.taskmanager.exception.PreconditionFailedException;
 import com.taskmanager.exception.ResourceNotFoundException;
 import com.taskmanager.exception.UnauthorizedException;
 import com.taskmanager.mapper.TaskMapper;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.ResourceVersion;
+import com.taskmanager.repository.TaskFilter;
 import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskSearchRepository;
+import com.taskmanager.repository.TaskTombstoneRepository;
+import com.taskmanager.repository.TaskSort;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +54,15 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskSearchRepository taskSearchRepository;
+
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
     @Mock
     private TaskMapper taskMapper;
 
@@ -45,6 +72,9 @@ class TaskServiceTest {
     @Mock
     private UserService userService;
 
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private TaskService taskService;
 
@@ -66,6 +96,8 @@ class TaskServiceTest {
                 .id(1L)
                 .name("Projeto Teste")
                 .owner(user)
+                .updatedAt(LocalDateTime.now())
+                .version(0L)
                 .build();
 
         task = Task.builder()
@@ -77,6 +109,7 @@ class TaskServiceTest {
                 .project(project)
                 .assignedUser(user)
                 .createdAt(LocalDateTime.now())
+                .version(3L)
                 .build();
 
         taskResponse = TaskResponse.builder()
@@ -103,8 +136,7 @@ class TaskServiceTest {
     @Test
     @DisplayName("Deve criar tarefa com sucesso")
     void create_Success() {
-        when(projectService.findById(1L)).thenReturn(project);
-        doNothing().when(projectService).validateOwnership(project, user);
+        when(projectService.findOwnedById(1L, user)).thenReturn(project);
         when(userService.findById(1L)).thenReturn(user);
         when(taskMapper.toEntity(taskRequest, project, user)).thenReturn(task);
         when(taskRepository.save(any(Task.class))).thenReturn(task);
@@ -126,26 +158,196 @@ class TaskServiceTest {
                 .deadline(LocalDate.now().minusDays(1))
                 .build();
 
-        when(projectService.findById(1L)).thenReturn(project);
-        doNothing().when(projectService).validateOwnership(project, user);
+        when(projectService.findOwnedById(1L, user)).thenReturn(project);
 
         assertThatThrownBy(() -> taskService.create(1L, requestWithPastDeadline, user))
                 .isInstanceOf(BusinessException.class)
                 .hasMessage("Prazo não pode ser no passado");
     }
 
+    @Test
+    @DisplayName("Deve criar tarefas em lote e reportar erros por item")
+    void createBatch_ReportsPerItem() {
+        var invalidTitle = TaskRequest.builder()
+                .title("")
+                .build();
+        var unknownAssignee = TaskRequest.builder()
+                .title("Tarefa")
+                .assignedUserId(99L)
+                .build();
+
+        when(projectService.findOwnedById(1L, user)).thenReturn(project);
+        when(userService.findAllById(List.of(1L, 99L))).thenReturn(List.of(user));
+        when(taskMapper.toEntity(taskRequest, project, user)).thenReturn(task);
+        when(taskRepository.saveAll(List.of(task))).thenReturn(List.of(task));
+        when(taskMapper.toResponse(task)).thenReturn(taskResponse);
+
+        var result = taskService.createBatch(1L, List.of(taskRequest, invalidTitle, unknownAssignee), user);
+
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getItems()).extracting("status").containsExactly(201, 400, 400);
+        assertThat(result.getItems().get(0).getTask()).isEqualTo(taskResponse);
+        assertThat(result.getItems().get(1).getErrors()).extracting("field").containsExactly("title");
+        assertThat(result.getItems().get(2).getErrors()).extracting("field").containsExactly("assignedUserId");
+        verify(userService, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote acima do limite antes de consultar o banco")
+    void createBatch_TooLarge() {
+        var requests = Collections.nCopies(TaskService.MAX_BATCH_SIZE + 1, taskRequest);
+
+        assertThatThrownBy(() -> taskService.createBatch(1L, requests, user))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(projectService, taskRepository);
+    }
+
     @Test
     @DisplayName("Deve listar tarefas do projeto")
     void findAllByProject_Success() {
-        when(projectService.findById(1L)).thenReturn(project);
-        doNothing().when(projectService).validateOwnership(project, user);
-        when(taskRepository.findByProjectId(1L)).thenReturn(List.of(task));
-        when(taskMapper.toResponse(task)).thenReturn(taskResponse);
+        doNothing().when(projectService).validateOwnership(1L, user);
+        when(taskRepository.findResponsePage(
+                TaskFilter.builder().projectId(1L).build(), TaskSort.CREATED_AT_ASC, null, null, 51))
+                .thenReturn(List.of(taskResponse));
+
+        var result = taskService.findAllByProject(1L, new TaskFilterRequest(), null, 50, user);
+
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getItems().get(0).getTitle()).isEqualTo("Tarefa Teste");
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve repassar filtros e ordenação para uma única consulta")
+    void findAllByProject_Filters() {
+        var filterRequest = TaskFilterRequest.builder()
+                .status(TaskStatus.DOING)
+                .assignedUserId(2L)
+                .deadlineFrom(LocalDate.of(2025, 1, 1))
+                .deadlineTo(LocalDate.of(2025, 1, 31))
+                .sort("-deadline")
+                .build();
+        var expectedFilter = TaskFilter.builder()
+                .projectId(1L)
+                .status(TaskStatus.DOING)
+                .assignedUserId(2L)
+                .deadlineFrom(LocalDate.of(2025, 1, 1))
+                .deadlineTo(LocalDate.of(2025, 1, 31))
+                .build();
+
+        doNothing().when(projectService).validateOwnership(1L, user);
+        when(taskRepository.findResponsePage(expectedFilter, TaskSort.DEADLINE_DESC, null, null, 11))
+                .thenReturn(List.of(taskResponse));
+
+        var result = taskService.findAllByProject(1L, filterRequest, null, 10, user);
+
+        assertThat(result.getItems()).containsExactly(taskResponse);
+    }
 
-        var result = taskService.findAllByProject(1L, user);
+    @Test
+    @DisplayName("Deve listar tarefas atribuídas ao usuário ordenadas por prazo")
+    void findAllAssignedTo_DefaultsToDeadline() {
+        var filterRequest = AssignedTaskFilterRequest.builder()
+                .status(TaskStatus.TODO)
+                .build();
+        var expectedFilter = TaskFilter.builder()
+                .assignedUserId(user.getId())
+                .status(TaskStatus.TODO)
+                .build();
+
+        when(taskRepository.findResponsePage(expectedFilter, TaskSort.DEADLINE_ASC, null, null, 51))
+                .thenReturn(List.of(taskResponse));
+
+        var result = taskService.findAllAssignedTo(user, filterRequest, null, 50);
+
+        assertThat(result.getItems()).containsExactly(taskResponse);
+        verifyNoInteractions(projectService);
+    }
+
+    @Test
+    @DisplayName("Deve retornar cursor da próxima página quando houver mais tarefas")
+    void findAllByProject_NextCursor() {
+        var secondResponse = TaskResponse.builder()
+                .id(2L)
+                .title("Outra Tarefa")
+                .projectId(1L)
+                .createdAt(taskResponse.getCreatedAt().plusSeconds(1))
+                .build();
+        var filter = TaskFilter.builder().projectId(1L).build();
+
+        doNothing().when(projectService).validateOwnership(1L, user);
+        when(taskRepository.findResponsePage(filter, TaskSort.CREATED_AT_ASC, null, null, 2))
+                .thenReturn(List.of(taskResponse, secondResponse));
+
+        var firstPage = taskService.findAllByProject(1L, new TaskFilterRequest(), null, 1, user);
+
+        assertThat(firstPage.getItems()).containsExactly(taskResponse);
+        assertThat(firstPage.getNextCursor()).isNotNull();
+
+        when(taskRepository.findResponsePage(filter, TaskSort.CREATED_AT_ASC, taskResponse.getCreatedAt(), 1L, 2))
+                .thenReturn(List.of(secondResponse));
+
+        var secondPage = taskService.findAllByProject(1L, new TaskFilterRequest(), firstPage.getNextCursor(), 1, user);
+
+        assertThat(secondPage.getItems()).containsExactly(secondResponse);
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido")
+    void findAllByProject_InvalidCursor() {
+        doNothing().when(projectService).validateOwnership(1L, user);
+
+        assertThatThrownBy(() -> taskService.findAllByProject(1L, new TaskFilterRequest(), "cursor-invalido", 10, user))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Cursor de paginação inválido");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor emitido para outra ordenação")
+    void findAllByProject_CursorFromOtherSort() {
+        String cursor = PageCursor.encode("createdAt", taskResponse.getCreatedAt(), 1L);
+        var filterRequest = TaskFilterRequest.builder().sort("deadline").build();
+
+        doNothing().when(projectService).validateOwnership(1L, user);
+
+        assertThatThrownBy(() -> taskService.findAllByProject(1L, filterRequest, cursor, 10, user))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Cursor de paginação inválido");
+        verify(taskRepository, never()).findResponsePage(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar ordenação desconhecida")
+    void findAllByProject_InvalidSort() {
+        var filterRequest = TaskFilterRequest.builder().sort("title").build();
+
+        doNothing().when(projectService).validateOwnership(1L, user);
+
+        assertThatThrownBy(() -> taskService.findAllByProject(1L, filterRequest, null, 10, user))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Ordenação inválida: title");
+    }
+
+    @Test
+    @DisplayName("Deve buscar tarefas apenas nos projetos do usuário e limitar os resultados")
+    void search_ScopedToOwner() {
+        var result = TaskSearchResponse.builder().id(1L).title("Implementar login").build();
+        when(taskSearchRepository.search(user.getId(), "login", TaskService.MAX_SEARCH_LIMIT))
+                .thenReturn(List.of(result));
+
+        assertThat(taskService.search("  login ", 1000, user)).containsExactly(result);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar busca sem termo")
+    void search_BlankQuery() {
+        assertThatThrownBy(() -> taskService.search(" ", 20, user))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Informe o termo de busca");
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getTitle()).isEqualTo("Tarefa Teste");
+        verifyNoInteractions(taskSearchRepository);
     }
 
     @Test
@@ -169,20 +371,59 @@ class TaskServiceTest {
     }
 
     @Test
-    @DisplayName("Deve atualizar status da tarefa")
+    @DisplayName("Deve atualizar status da tarefa com um UPDATE restrito ao dono")
     void updateStatus_Success() {
         var statusRequest = TaskStatusRequest.builder()
                 .status(TaskStatus.DOING)
                 .build();
 
+        when(taskRepository.updateStatusByIdAndOwnerId(eq(1L), eq(1L), eq(TaskStatus.DOING), any(LocalDateTime.class)))
+                .thenReturn(1);
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
-        when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+        when(taskMapper.toResponse(task)).thenReturn(taskResponse);
 
-        var result = taskService.updateStatus(1L, statusRequest, user);
+        var result = taskService.updateStatus(1L, statusRequest, null, user);
 
-        assertThat(result).isNotNull();
-        verify(taskRepository).save(any(Task.class));
+        assertThat(result.body()).isEqualTo(taskResponse);
+        assertThat(result.eTag()).isNotBlank();
+        verify(taskRepository, never()).findByIdAndProjectOwnerId(any(), any());
+        verify(taskRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("Deve alterar status com If-Match igual à ETag atual")
+    void updateStatus_IfMatchCurrent() {
+        var statusRequest = TaskStatusRequest.builder()
+                .status(TaskStatus.DOING)
+                .build();
+        String currentETag = new ResourceVersion(3L, project.getUpdatedAt()).toETag();
+
+        when(taskRepository.findByIdAndProjectOwnerId(1L, 1L)).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
+        when(taskMapper.toResponse(task)).thenReturn(taskResponse);
+
+        var result = taskService.updateStatus(1L, statusRequest, currentETag, user);
+
+        assertThat(result.body()).isEqualTo(taskResponse);
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.DOING);
+        verify(taskRepository, never()).updateStatusByIdAndOwnerId(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar alteração de status com If-Match de versão antiga")
+    void updateStatus_IfMatchStale() {
+        var statusRequest = TaskStatusRequest.builder()
+                .status(TaskStatus.DOING)
+                .build();
+        String staleETag = new ResourceVersion(2L, project.getUpdatedAt()).toETag();
+
+        when(taskRepository.findByIdAndProjectOwnerId(1L, 1L)).thenReturn(Optional.of(task));
+
+        assertThatThrownBy(() -> taskService.updateStatus(1L, statusRequest, staleETag, user))
+                .isInstanceOf(PreconditionFailedException.class);
+
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.TODO);
+        verify(taskRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -193,22 +434,53 @@ class TaskServiceTest {
                 .status(TaskStatus.DONE)
                 .build();
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.updateStatusByIdAndOwnerId(eq(1L), eq(2L), eq(TaskStatus.DONE), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(taskRepository.existsById(1L)).thenReturn(true);
 
-        assertThatThrownBy(() -> taskService.updateStatus(1L, statusRequest, otherUser))
+        assertThatThrownBy(() -> taskService.updateStatus(1L, statusRequest, null, otherUser))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessage("Você não tem permissão para acessar esta tarefa");
     }
 
+    @Test
+    @DisplayName("Deve lançar exceção ao atualizar status de tarefa inexistente")
+    void updateStatus_NotFound() {
+        var statusRequest = TaskStatusRequest.builder()
+                .status(TaskStatus.DONE)
+                .build();
+
+        when(taskRepository.updateStatusByIdAndOwnerId(eq(99L), eq(1L), eq(TaskStatus.DONE), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(taskRepository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> taskService.updateStatus(99L, statusRequest, null, user))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
     @Test
     @DisplayName("Deve excluir tarefa com sucesso")
     void delete_Success() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        doNothing().when(taskRepository).delete(task);
+        when(taskTombstoneRepository.insertForOwnedTask(eq(1L), eq(1L), any(LocalDateTime.class))).thenReturn(1);
+        when(taskRepository.deleteByIdAndOwnerId(1L, 1L)).thenReturn(1);
 
         taskService.delete(1L, user);
 
-        verify(taskRepository).delete(task);
+        verify(projectRepository).incrementTasksVersionByTaskId(1L, 1L);
+        verify(taskRepository).deleteByIdAndOwnerId(1L, 1L);
+        verify(taskRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("Não deve excluir nem registrar exclusão de tarefa de outro dono")
+    void delete_NotOwner() {
+        when(taskTombstoneRepository.insertForOwnedTask(eq(1L), eq(1L), any(LocalDateTime.class))).thenReturn(0);
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> taskService.delete(1L, user))
+                .isInstanceOf(UnauthorizedException.class);
+
+        verify(taskRepository, never()).deleteByIdAndOwnerId(any(), any());
     }
 
     @Test
@@ -221,15 +493,102 @@ class TaskServiceTest {
                 .assignedUserId(1L)
                 .build();
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findByIdAndProjectOwnerId(1L, 1L)).thenReturn(Optional.of(task));
         when(userService.findById(1L)).thenReturn(user);
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(task);
         when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
 
-        var result = taskService.update(1L, updateRequest, user);
+        var result = taskService.update(1L, updateRequest, null, user);
 
-        assertThat(result).isNotNull();
+        assertThat(result.body()).isNotNull();
         verify(taskMapper).updateEntity(eq(task), eq(updateRequest), eq(user));
-        verify(taskRepository).save(task);
+        verify(taskRepository).saveAndFlush(task);
+    }
+
+    @Test
+    @DisplayName("Merge patch deve alterar só os campos enviados sem buscar o responsável atual")
+    void patch_OnlyPresentFields() {
+        var patch = new TaskPatchRequest();
+        patch.setDescription(null);
+        patch.setAssignedUserId(1L);
+
+        when(taskRepository.findByIdAndProjectOwnerId(1L, 1L)).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
+        when(taskMapper.toResponse(task)).thenReturn(taskResponse);
+
+        var result = taskService.patch(1L, patch, null, user);
+
+        assertThat(result.body()).isEqualTo(taskResponse);
+        assertThat(task.getTitle()).isEqualTo("Tarefa Teste");
+        assertThat(task.getDescription()).isNull();
+        assertThat(task.getAssignedUser()).isEqualTo(user);
+        verify(userService, never()).findById(any());
+        verify(taskMapper, never()).updateEntity(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Merge patch com null no responsável deve remover a atribuição")
+    void patch_RemoveAssignee() {
+        var patch = new TaskPatchRequest();
+        patch.setAssignedUserId(null);
+
+        when(taskRepository.findByIdAndProjectOwnerId(1L, 1L)).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
+
+        taskService.patch(1L, patch, null, user);
+
+        assertThat(task.getAssignedUser()).isNull();
+        verify(userService, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Merge patch não deve remover o título")
+    void patch_NullTitle() {
+        var patch = new TaskPatchRequest();
+        patch.setTitle(null);
+
+        when(taskRepository.findByIdAndProjectOwnerId(1L, 1L)).thenReturn(Optional.of(task));
+
+        assertThatThrownBy(() -> taskService.patch(1L, patch, null, user))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Título da tarefa é obrigatório");
+
+        verify(taskRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Deve alterar status em massa restrito ao dono sem carregar tarefas")
+    void bulkUpdateStatus_Success() {
+        var request = TaskBulkStatusRequest.builder()
+                .filter(TaskSelectionRequest.builder().projectId(1L).status(TaskStatus.DOING).build())
+                .status(TaskStatus.DONE)
+                .build();
+        var expectedFilter = TaskFilter.builder()
+                .ownerId(1L)
+                .projectId(1L)
+                .status(TaskStatus.DOING)
+                .build();
+
+        when(taskRepository.updateStatus(expectedFilter, TaskStatus.DONE)).thenReturn(42);
+
+        var result = taskService.bulkUpdateStatus(request, user);
+
+        assertThat(result.getUpdated()).isEqualTo(42);
+        verify(taskRepository).incrementTasksVersions(expectedFilter);
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve exigir ao menos um critério na alteração em massa")
+    void bulkUpdateStatus_EmptyFilter() {
+        var request = TaskBulkStatusRequest.builder()
+                .filter(new TaskSelectionRequest())
+                .status(TaskStatus.DONE)
+                .build();
+
+        assertThatThrownBy(() -> taskService.bulkUpdateStatus(request, user))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Informe ao menos um critério de seleção");
+        verifyNoInteractions(taskRepository);
     }
 }
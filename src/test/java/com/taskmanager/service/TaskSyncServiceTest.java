@@ -0,0 +1,104 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.response.TaskChangesResponse;
+import com.taskmanager.dto.response.TaskResponse;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.TaskTombstone;
+import com.taskmanager.entity.User;
+import com.taskmanager.mapper.TaskMapper;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSyncServiceTest {
+
+    private static final long COMMITTED_VERSION = 5;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private ProjectService projectService;
+
+    private TaskSyncService taskSyncService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        taskSyncService = new TaskSyncService(taskRepository, taskTombstoneRepository, projectRepository,
+                taskMapper, projectService, Duration.ofDays(30));
+        user = User.builder().id(1L).build();
+        when(projectRepository.findTasksVersionById(1L)).thenReturn(COMMITTED_VERSION);
+    }
+
+    @Test
+    @DisplayName("Deve intercalar tarefas e exclusões na ordem das versões dentro do mesmo limite")
+    void findChanges_MergesTombstonesIntoPage() {
+        String since = PageCursor.encode(1L, null, 0L, LocalDateTime.now());
+        when(taskRepository.findChangedByProjectId(1L, 1L, Long.MAX_VALUE, COMMITTED_VERSION, Limit.of(4)))
+                .thenReturn(List.of(task(1L, 2L), task(3L, 4L)));
+        when(taskTombstoneRepository.findByProjectIdChangedAfter(1L, 1L, Long.MAX_VALUE, COMMITTED_VERSION, Limit.of(4)))
+                .thenReturn(List.of(tombstone(2L, 3L), tombstone(4L, 5L)));
+        when(taskMapper.toResponse(any(Task.class)))
+                .thenAnswer(invocation -> TaskResponse.builder().id(invocation.<Task>getArgument(0).getId()).build());
+
+        TaskChangesResponse response = taskSyncService.findChanges(1L, since, 3, user);
+
+        assertThat(response.getChanged()).extracting(TaskResponse::getId).containsExactly(1L, 3L);
+        assertThat(response.getDeleted()).containsExactly(2L);
+        assertThat(response.isHasMore()).isTrue();
+        PageCursor next = PageCursor.decode(response.getNextToken(), 4);
+        assertThat(next.getLong(0)).isEqualTo(4L);
+        assertThat(next.getLong(1)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Deve parar no contador já confirmado do projeto e continuar dele na próxima chamada")
+    void findChanges_StopsAtCommittedVersion() {
+        when(taskRepository.findChangedByProjectId(1L, 0L, 0L, COMMITTED_VERSION, Limit.of(11)))
+                .thenReturn(List.of());
+        when(taskTombstoneRepository.findByProjectIdChangedAfter(
+                1L, COMMITTED_VERSION, Long.MAX_VALUE, COMMITTED_VERSION, Limit.of(11)))
+                .thenReturn(List.of());
+
+        TaskChangesResponse response = taskSyncService.findChanges(1L, null, 10, user);
+
+        assertThat(response.isHasMore()).isFalse();
+        PageCursor next = PageCursor.decode(response.getNextToken(), 4);
+        assertThat(next.getLong(0)).isEqualTo(COMMITTED_VERSION);
+        assertThat(next.getLong(1)).isNull();
+    }
+
+    private static Task task(Long id, long syncVersion) {
+        return Task.builder().id(id).syncVersion(syncVersion).build();
+    }
+
+    private static TaskTombstone tombstone(Long taskId, long syncVersion) {
+        return TaskTombstone.builder().taskId(taskId).syncVersion(syncVersion).build();
+    }
+}
@@ -6,7 +6,10 @@ import com.taskmanager.entity.User;
 import com.taskmanager.exception.BusinessException;
 import com.taskmanager.exception.ResourceNotFoundException;
 import com.taskmanager.mapper.UserMapper;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
 import com.taskmanager.repository.UserRepository;
+import com.taskmanager.security.PrincipalCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
@@ -31,12 +35,24 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
     @Mock
     private UserMapper userMapper;
 
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private UserSuggestionIndex userSuggestionIndex;
+
     @InjectMocks
     private UserService userService;
 
@@ -104,16 +120,30 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("Deve listar todos os usuários")
+    @DisplayName("Deve listar usuários em páginas por id")
     void findAll_Success() {
-        when(userRepository.findAll()).thenReturn(List.of(user));
-        when(userMapper.toResponse(user)).thenReturn(userResponse);
+        when(userRepository.findFirstResponses(Limit.of(51))).thenReturn(List.of(userResponse));
+
+        var result = userService.findAll(null, 50);
 
-        var result = userService.findAll();
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getItems().get(0).getName()).isEqualTo("João Silva");
+        assertThat(result.getNextCursor()).isNull();
+    }
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getName()).isEqualTo("João Silva");
-        verify(userRepository).findAll();
+    @Test
+    @DisplayName("Deve continuar a listagem de usuários a partir do cursor")
+    void findAll_NextCursor() {
+        var second = UserResponse.builder().id(2L).name("Maria").build();
+        when(userRepository.findFirstResponses(Limit.of(2))).thenReturn(List.of(userResponse, second));
+        when(userRepository.findResponsesAfter(1L, Limit.of(2))).thenReturn(List.of(second));
+
+        var firstPage = userService.findAll(null, 1);
+        var secondPage = userService.findAll(firstPage.getNextCursor(), 1);
+
+        assertThat(firstPage.getItems()).containsExactly(userResponse);
+        assertThat(secondPage.getItems()).containsExactly(second);
+        assertThat(secondPage.getNextCursor()).isNull();
     }
 
     @Test
@@ -139,6 +169,8 @@ class UserServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo("João Atualizado");
         verify(userRepository).save(any(User.class));
+        verify(principalCache).evict("joao@email.com", "joao@email.com");
+        verify(userSuggestionIndex).put(user);
     }
 
     @Test
@@ -180,20 +212,26 @@ class UserServiceTest {
     @Test
     @DisplayName("Deve excluir usuário com sucesso")
     void delete_Success() {
-        when(userRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(userRepository).deleteById(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.softDeleteById(eq(1L), any(LocalDateTime.class))).thenReturn(1);
 
         userService.delete(1L);
 
-        verify(userRepository).deleteById(1L);
+        verify(projectRepository).softDeleteByOwnerId(eq(1L), any(LocalDateTime.class));
+        verify(projectRepository).incrementTasksVersionByAssignedUserId(1L);
+        verify(taskRepository).touchByAssignedUserId(eq(1L), any(LocalDateTime.class));
+        verify(userRepository, never()).deleteById(any());
+        verify(principalCache).evict("joao@email.com");
+        verify(userSuggestionIndex).remove(1L);
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao excluir usuário inexistente")
     void delete_NotFound() {
-        when(userRepository.existsById(99L)).thenReturn(false);
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.delete(99L))
                 .isInstanceOf(ResourceNotFoundException.class);
+        verify(userRepository, never()).softDeleteById(any(), any());
     }
 }
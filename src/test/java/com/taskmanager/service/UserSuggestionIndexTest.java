@@ -0,0 +1,89 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.response.UserResponse;
+import com.taskmanager.dto.response.UserSuggestionResponse;
+import com.taskmanager.entity.User;
+import com.taskmanager.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserSuggestionIndexTest {
+
+    private UserRepository userRepository;
+    private UserSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.streamAllResponses()).thenReturn(Stream.of(
+                new UserResponse(1L, "João Silva", "joao@email.com", null),
+                new UserResponse(2L, "Joana Souza", "jsouza@email.com", null),
+                new UserResponse(3L, "Ana Júlia", "ana@email.com", null)));
+
+        index = new UserSuggestionIndex(userRepository);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Deve sugerir por prefixo do nome, de uma palavra do nome ou do email, ignorando acentos")
+    void suggest_MatchesNameWordsAndEmail() {
+        assertThat(ids(index.suggest("jo", 10))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(index.suggest("SILV", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("julia", 10))).containsExactly(3L);
+        assertThat(ids(index.suggest("jsouza@", 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Deve limitar a quantidade de sugestões sem repetir usuários")
+    void suggest_BoundedAndDistinct() {
+        assertThat(index.suggest("j", 10)).hasSize(3);
+        assertThat(index.suggest("j", 2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Não deve perder cadastro nem exclusão feitos durante a remontagem")
+    void rebuild_KeepsConcurrentMutations() {
+        when(userRepository.streamAllResponses()).thenReturn(Stream.of(
+                        new UserResponse(1L, "João Silva", "joao@email.com", null),
+                        new UserResponse(2L, "Joana Souza", "jsouza@email.com", null))
+                .peek(user -> {
+                    if (user.getId() == 2L) {
+                        index.put(User.builder().id(4L).name("Bruno Lima").email("bruno@email.com").build());
+                        index.remove(2L);
+                    }
+                }));
+
+        index.rebuild();
+
+        assertThat(ids(index.suggest("bru", 10))).containsExactly(4L);
+        assertThat(ids(index.suggest("joana", 10))).isEmpty();
+        assertThat(ids(index.suggest("joao", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Deve refletir cadastro, alteração de nome e exclusão sem remontar o índice")
+    void putAndRemove_UpdateIncrementally() {
+        index.put(User.builder().id(4L).name("Bruno Lima").email("bruno@email.com").build());
+        index.put(User.builder().id(1L).name("João Pereira").email("joao@email.com").build());
+        index.remove(2L);
+
+        assertThat(ids(index.suggest("bru", 10))).containsExactly(4L);
+        assertThat(ids(index.suggest("silva", 10))).isEmpty();
+        assertThat(index.suggest("pereira", 10))
+                .extracting(UserSuggestionResponse::getName)
+                .containsExactly("João Pereira");
+        assertThat(ids(index.suggest("jo", 10))).containsExactly(1L);
+    }
+
+    private static List<Long> ids(List<UserSuggestionResponse> suggestions) {
+        return suggestions.stream().map(UserSuggestionResponse::getId).toList();
+    }
+}